@@ -26,6 +26,7 @@ public interface PayaraConstants {
     Icon PAYARA_ICON = IconLoader.getIcon("/icons/payara.svg");
     Icon CLOUD_ICON = IconLoader.getIcon("/icons/cloud.svg");
     int DEFAULT_DEBUG_PORT = 9007;
+    int DEFAULT_ADMIN_PORT = 4848;
 
     String PAYARA_BIN_DIRECTORY_NAME = "bin";
     String PAYARA_MODULES_DIRECTORY_NAME = "glassfish" + File.separator + "modules";
@@ -26,6 +26,7 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.util.ReflectionUtil;
 import com.intellij.util.messages.MessageBus;
+import fish.payara.execution.BuildCommand;
 import org.jetbrains.annotations.NotNull;
 import kotlinx.coroutines.CoroutineScope;
 import kotlinx.coroutines.GlobalScope;
@@ -58,23 +59,35 @@ public abstract class PayaraCloudProject {
 
     public abstract String getProjectName();
 
-    public abstract String getLoginCommand();
+    public abstract BuildCommand getLoginCommand();
 
-    public abstract String getDevCommand();
+    public abstract BuildCommand getDevCommand();
 
-    public abstract String getDeployCommand();
+    public abstract BuildCommand getDeployCommand();
 
-    public abstract String getUndeployCommand();
+    public abstract BuildCommand getUndeployCommand();
 
-    public abstract String getStartCommand();
+    public abstract BuildCommand getStartCommand();
 
-    public abstract String getStopCommand();
+    public abstract BuildCommand getStopCommand();
 
-    public abstract String getApplicationCommand();
+    public abstract BuildCommand getApplicationCommand();
 
-    public abstract String getNamespaceCommand();
+    public abstract BuildCommand getNamespaceCommand();
 
-    public abstract String getSubscriptionCommand();
+    public abstract BuildCommand getSubscriptionCommand();
 
+    /**
+     * Prepares the build commands before they are created, called off the
+     * EDT.
+     */
+    public void prepareBuild() {
+    }
+
+    /**
+     * Called when a build command completed successfully.
+     */
+    public void buildSucceeded() {
+    }
 
 }
@@ -16,30 +16,40 @@
  */
 package fish.payara.cloud.actions;
 
+import com.intellij.execution.ExecutionException;
 import com.intellij.notification.*;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
 import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.wm.ToolWindow;
-import com.intellij.openapi.wm.ToolWindowManager;
-import com.intellij.terminal.JBTerminalWidget;
-import com.intellij.ui.content.Content;
-import com.jediterm.terminal.TtyConnector;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.ui.popup.JBPopupFactory;
 import fish.payara.PayaraBundle;
 import fish.payara.PayaraConstants;
-import fish.payara.cloud.maven.CloudMavenProject;
 import fish.payara.cloud.PayaraCloudProject;
+import fish.payara.cloud.maven.CloudClientService;
+import fish.payara.execution.BuildCommand;
+import fish.payara.execution.ExecutionProfile;
+import fish.payara.execution.ExecutionTimings;
+import fish.payara.execution.MavenDaemon;
+import fish.payara.execution.PayaraCommandExecutor;
+import fish.payara.execution.PayaraExecution;
+import fish.payara.execution.PayaraExecutionSettings;
+import fish.payara.execution.TerminalSessionPool;
+import fish.payara.project.PayaraProjectService;
+import fish.payara.util.EdtWatchdog;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.plugins.terminal.LocalTerminalDirectRunner;
-import org.jetbrains.plugins.terminal.ShellTerminalWidget;
-import org.jetbrains.plugins.terminal.TerminalTabState;
-import org.jetbrains.plugins.terminal.TerminalView;
+import org.jetbrains.annotations.Nullable;
 
-import java.awt.event.KeyEvent;
-import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import javax.ws.rs.core.Link;
 
 /**
  *
@@ -49,90 +59,220 @@ public abstract class CloudAction extends AnAction {
 
     private static final Logger LOG = Logger.getLogger(CloudAction.class.getName());
 
-    private static final String TOOL_WINDOW_ID = "Terminal";
+    @NotNull
+    @Override
+    public ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    /**
+     * Enablement only reads the cached project state, the detection runs at
+     * project open or when the action is performed.
+     */
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) {
+            e.getPresentation().setEnabled(false);
+            return;
+        }
+        PayaraProjectService service = PayaraProjectService.getInstance(project);
+        if (!service.isCloudProjectResolved()) {
+            e.getPresentation().setEnabledAndVisible(true);
+            return;
+        }
+        PayaraCloudProject cloudProject = service.peekCloudProject();
+        e.getPresentation().setEnabled(cloudProject != null);
+        e.getPresentation().setVisible(cloudProject == null || isAvailable(cloudProject));
+    }
+
+    /**
+     * @param project the detected project
+     * @return false to hide the action for the project
+     */
+    protected boolean isAvailable(PayaraCloudProject project) {
+        return true;
+    }
+
+    /**
+     * @return true if the action packages the application, so the project
+     * checks in the background whether the artifact is up-to-date
+     */
+    protected boolean isBuild() {
+        return false;
+    }
 
+    /**
+     * Detects the project in a cancellable background task, only the
+     * console and dialog work of {@link #onAction} runs on the EDT.
+     */
     @Override
     public void actionPerformed(@NotNull AnActionEvent e) {
-        try {
-            final Project project = CommonDataKeys.PROJECT.getData(e.getDataContext());
-            if (project == null) {
-                LOG.warning("Unable to resolve project type.");
-                return;
-            }
+        final Project project = CommonDataKeys.PROJECT.getData(e.getDataContext());
+        if (project == null) {
+            LOG.warning("Unable to resolve project type.");
+            return;
+        }
+        String description = e.getPresentation().getDescription();
+        String actionName = getClass().getSimpleName();
+        new Task.Backgroundable(project, PayaraBundle.message("CloudAction.task.title"), true) {
 
-            PayaraCloudProject cloudProject = CloudMavenProject.getInstance(project);
-            if (cloudProject == null) {
-                LOG.warning(PayaraBundle.message("CloudAction.notification.message"));
-                Notifications.Bus.notify(
-                        new Notification(
-                                PayaraBundle.message("CloudAction.notification.group"),
-                                PayaraConstants.CLOUD_ICON,
-                                e.getPresentation().getDescription(),
-                                "",
-                                PayaraBundle.message("CloudAction.notification.message"),
-                                NotificationType.WARNING,
-                                NotificationListener.URL_OPENING_LISTENER
-                        ), project);
-                return;
+            private PayaraCloudProject cloudProject;
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                cloudProject = PayaraProjectService.getInstance(project).getCloudProject();
+                indicator.checkCanceled();
+                if (cloudProject != null) {
+                    // read from the build files and cached by the project
+                    cloudProject.getProjectName();
+                    if (isBuild()) {
+                        indicator.checkCanceled();
+                        cloudProject.prepareBuild();
+                    }
+                }
             }
-            if (cloudProject != null) {
-                onAction(cloudProject);
+
+            @Override
+            public void onSuccess() {
+                if (cloudProject == null) {
+                    LOG.warning(PayaraBundle.message("CloudAction.notification.message"));
+                    Notifications.Bus.notify(
+                            new Notification(
+                                    PayaraBundle.message("CloudAction.notification.group"),
+                                    PayaraConstants.CLOUD_ICON,
+                                    description,
+                                    "",
+                                    PayaraBundle.message("CloudAction.notification.message"),
+                                    NotificationType.WARNING,
+                                    NotificationListener.URL_OPENING_LISTENER
+                            ), project);
+                    return;
+                }
+                EdtWatchdog.run(actionName, () -> {
+                    try {
+                        onAction(cloudProject);
+                    } catch (Exception ex) {
+                        LOG.log(Level.SEVERE, null, ex);
+                    }
+                });
             }
-        } catch (Exception ex) {
-            LOG.log(Level.SEVERE, null, ex);
-        }
+        }.queue();
     }
 
     public abstract void onAction(PayaraCloudProject project);
 
-    public JBTerminalWidget getTerminal(Project project, String tabName) {
-        ToolWindowManager windowManager = ToolWindowManager.getInstance(project);
-        ToolWindow terminalWindow = windowManager.getToolWindow(TOOL_WINDOW_ID);
-        if (terminalWindow != null) {
-            JBTerminalWidget widget = findTerminal(terminalWindow, tabName);
-            if (widget != null) {
-                return widget;
-            }
-            createTerminal(project, tabName);
-            return findTerminal(terminalWindow, tabName);
+    /**
+     * Run the command with its own console, or type it into the Terminal tool
+     * window if enabled for the project.
+     *
+     * @param cloudProject the project
+     * @param tabName the console or terminal tab name
+     * @param buildCommand the build command, the execution profile of the
+     * project is applied to it
+     * @return the started execution, null if typed into the Terminal or not
+     * started
+     */
+    @Nullable
+    public PayaraExecution executeCommand(PayaraCloudProject cloudProject, String tabName, BuildCommand buildCommand) {
+        Project project = cloudProject.getProject();
+        ExecutionProfile profile = PayaraExecutionSettings.getExecutionProfile(project);
+        BuildCommand command = profile.apply(buildCommand);
+        if (PayaraExecutionSettings.isTerminalEnabled(project)) {
+            TerminalSessionPool.getInstance(project).execute(tabName, MavenDaemon.apply(project, command.toString()));
+            return null;
+        }
+        PayaraExecution execution;
+        try {
+            execution = PayaraCommandExecutor.getInstance(project).execute(tabName, command.toString(), cloudProject.getBuildFile());
+        } catch (ExecutionException ex) {
+            LOG.log(Level.SEVERE, command.toString(), ex);
+            return null;
         }
-        return null;
+        ExecutionTimings.track(project, profile, command, execution);
+        return execution;
     }
 
-    private void createTerminal(Project project, String tabName) {
-        TerminalTabState tabState = new TerminalTabState();
-        tabState.myTabName = tabName;
-        tabState.myWorkingDirectory = project.getBasePath();
-        TerminalView.getInstance(project)
-                .createNewSession(new LocalTerminalDirectRunner(project), tabState);
+    /**
+     * Run a packaging command and record the build inputs if it succeeds. A
+     * command typed into the Terminal reports no exit code, so its build
+     * inputs are not recorded.
+     *
+     * @param cloudProject the project
+     * @param tabName the console or terminal tab name
+     * @param command the build command
+     * @return the started execution, null if typed into the Terminal or not
+     * started
+     */
+    @Nullable
+    public PayaraExecution executeBuild(PayaraCloudProject cloudProject, String tabName, BuildCommand command) {
+        PayaraExecution execution = executeCommand(cloudProject, tabName, command);
+        if (execution != null) {
+            execution.getExitCode().thenAccept(exitCode -> {
+                if (exitCode == 0) {
+                    cloudProject.buildSucceeded();
+                }
+            });
+        }
+        return execution;
     }
 
-    private JBTerminalWidget findTerminal(ToolWindow terminalWindow, String tabName) {
-        Content[] contents = terminalWindow.getContentManager().getContents();
-        for (Content content : contents) {
-            if (content.getTabName().equals(tabName)) {
-                return TerminalView.getWidgetByContent(content);
-            }
+    /**
+     * Query Payara Cloud in-process and show the titles of the result, or run
+     * the equivalent Maven goal if in-process queries are disabled or fail.
+     *
+     * @param cloudProject the project
+     * @param title the task and popup title
+     * @param query the query of the cloud client
+     * @param command the equivalent Maven command
+     */
+    protected void list(PayaraCloudProject cloudProject, String title, CloudQuery query, BuildCommand command) {
+        Project project = cloudProject.getProject();
+        if (!PayaraExecutionSettings.isInProcessEnabled(project)) {
+            executeCommand(cloudProject, cloudProject.getProjectName(), command);
+            return;
         }
-        return null;
-    }
+        new Task.Backgroundable(project, title, true) {
 
-    public void executeCommand(JBTerminalWidget widget, String command) {
-        try {
-            widget.setRequestFocusEnabled(true);
-            widget.requestFocusInWindow();
-            widget.requestFocus(true);
-            widget.requestFocus();
-            widget.grabFocus();
-            TtyConnector connector = widget.getTtyConnector();
-            if (connector != null) {
-                connector.write(command);
-                connector.write(widget.getTerminalStarter().getCode(KeyEvent.VK_ENTER, 0));
-            } else if (widget instanceof ShellTerminalWidget) {
-                ((ShellTerminalWidget) widget).executeCommand(command);
+            private List<Link> result;
+            private Exception failure;
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                long start = System.nanoTime();
+                try {
+                    result = query.call(CloudClientService.getInstance(project));
+                    LOG.log(Level.FINE, "{0} took {1} ms", new Object[]{title,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)});
+                } catch (Exception ex) {
+                    failure = ex;
+                }
             }
-        } catch (IOException ex) {
-            LOG.log(Level.SEVERE, null, ex);
-        }
+
+            @Override
+            public void onSuccess() {
+                if (failure != null) {
+                    LOG.log(Level.WARNING, title + " failed in-process, running " + command, failure);
+                    executeCommand(cloudProject, cloudProject.getProjectName(), command);
+                } else if (result.isEmpty()) {
+                    Messages.showInfoMessage(project, PayaraBundle.message("CloudAction.list.empty"), title);
+                } else {
+                    List<String> titles = result.stream()
+                            .map(link -> link.getTitle() != null ? link.getTitle() : link.getUri().toString())
+                            .collect(Collectors.toList());
+                    JBPopupFactory.getInstance()
+                            .createPopupChooserBuilder(titles)
+                            .setTitle(title)
+                            .createPopup()
+                            .showCenteredInCurrentWindow(project);
+                }
+            }
+        }.queue();
+    }
+
+    @FunctionalInterface
+    protected interface CloudQuery {
+
+        List<Link> call(CloudClientService client) throws Exception;
     }
 }
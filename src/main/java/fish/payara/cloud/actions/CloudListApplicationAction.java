@@ -17,14 +17,13 @@
 package fish.payara.cloud.actions;
 
 import com.intellij.openapi.ui.Messages;
-import com.intellij.terminal.JBTerminalWidget;
+import fish.payara.PayaraBundle;
 import fish.payara.PayaraConstants;
 import fish.payara.cloud.PayaraCloudProject;
 import fish.payara.cloud.maven.CloudMavenProject;
+import fish.payara.execution.BuildCommand;
 import javax.swing.*;
 import java.awt.*;
-import static java.util.logging.Level.WARNING;
-import java.util.logging.Logger;
 
 /**
  *
@@ -32,60 +31,53 @@ import java.util.logging.Logger;
  */
 public class CloudListApplicationAction extends CloudAction {
 
-    private static final Logger LOG = Logger.getLogger(CloudListApplicationAction.class.getName());
-
     @Override
     public void onAction(PayaraCloudProject project) {
-        String projectName = project.getProjectName();
-        JBTerminalWidget terminal = getTerminal(project.getProject(), projectName);
-        if (terminal != null) {
-            JPanel panel = new JPanel(new GridBagLayout());
-            GridBagConstraints gbc = new GridBagConstraints();
-            gbc.insets = new Insets(2, 2, 2, 2);
-            gbc.fill = GridBagConstraints.HORIZONTAL;
-            gbc.gridx = 0;
-            gbc.gridy = 0;
+        JPanel panel = new JPanel(new GridBagLayout());
+        GridBagConstraints gbc = new GridBagConstraints();
+        gbc.insets = new Insets(2, 2, 2, 2);
+        gbc.fill = GridBagConstraints.HORIZONTAL;
+        gbc.gridx = 0;
+        gbc.gridy = 0;
 
-            JLabel subscriptionLabel = new JLabel("Subscription:");
-            panel.add(subscriptionLabel, gbc);
+        JLabel subscriptionLabel = new JLabel("Subscription:");
+        panel.add(subscriptionLabel, gbc);
 
-            gbc.gridx = 1;
-            JTextField subscriptionField = new JTextField(20);
-            panel.add(subscriptionField, gbc);
+        gbc.gridx = 1;
+        JTextField subscriptionField = new JTextField(20);
+        panel.add(subscriptionField, gbc);
 
-            gbc.gridx = 0;
-            gbc.gridy = 1;
-            JLabel namespaceLabel = new JLabel("Namespace:");
-            panel.add(namespaceLabel, gbc);
+        gbc.gridx = 0;
+        gbc.gridy = 1;
+        JLabel namespaceLabel = new JLabel("Namespace:");
+        panel.add(namespaceLabel, gbc);
 
-            gbc.gridx = 1;
-            JTextField namespaceField = new JTextField(20);
-            panel.add(namespaceField, gbc);
+        gbc.gridx = 1;
+        JTextField namespaceField = new JTextField(20);
+        panel.add(namespaceField, gbc);
 
-            int result = JOptionPane.showConfirmDialog(
-                null,
-                panel,
-                "List Cloud Applications",
-                JOptionPane.OK_CANCEL_OPTION,
-                JOptionPane.QUESTION_MESSAGE,
-                PayaraConstants.CLOUD_ICON
-            );
+        int result = JOptionPane.showConfirmDialog(
+            null,
+            panel,
+            "List Cloud Applications",
+            JOptionPane.OK_CANCEL_OPTION,
+            JOptionPane.QUESTION_MESSAGE,
+            PayaraConstants.CLOUD_ICON
+        );
 
-            if (result == JOptionPane.OK_OPTION) {
-                String subscriptionValue = subscriptionField.getText().trim();
-                String namespaceValue = namespaceField.getText().trim();
+        if (result == JOptionPane.OK_OPTION) {
+            String subscriptionValue = subscriptionField.getText().trim();
+            String namespaceValue = namespaceField.getText().trim();
 
-                String cmd = project.getApplicationCommand();
-                if (!subscriptionValue.isEmpty()) {
-                    cmd += " -D" + CloudMavenProject.SUBSCRIPTION_ATTR + "='" + subscriptionValue + "'";
-                }
-                if (!namespaceValue.isEmpty()) {
-                    cmd += " -D" + CloudMavenProject.NAMESPACE_ATTR + "='" + namespaceValue + "'";
-                }
-                executeCommand(terminal, cmd);
+            BuildCommand cmd = project.getApplicationCommand();
+            if (!subscriptionValue.isEmpty()) {
+                cmd = cmd.withProperty(CloudMavenProject.SUBSCRIPTION_ATTR, subscriptionValue);
+            }
+            if (!namespaceValue.isEmpty()) {
+                cmd = cmd.withProperty(CloudMavenProject.NAMESPACE_ATTR, namespaceValue);
             }
-        } else {
-            LOG.log(WARNING, "Shell window for {0} is not available.", projectName);
+            list(project, PayaraBundle.message("CloudAction.list.applications"),
+                    client -> client.getApplications(subscriptionValue, namespaceValue), cmd);
         }
     }
 }
@@ -18,11 +18,10 @@ package fish.payara.cloud.actions;
 
 
 import com.intellij.openapi.ui.Messages;
-import com.intellij.terminal.JBTerminalWidget;
+import fish.payara.PayaraBundle;
 import fish.payara.cloud.PayaraCloudProject;
 import fish.payara.cloud.maven.CloudMavenProject;
-import static java.util.logging.Level.WARNING;
-import java.util.logging.Logger;
+import fish.payara.execution.BuildCommand;
 
 /**
  *
@@ -30,28 +29,20 @@ import java.util.logging.Logger;
  */
 public class CloudListNamespaceAction extends CloudAction {
 
-    private static final Logger LOG = Logger.getLogger(CloudListNamespaceAction.class.getName());
-
     @Override
     public void onAction(PayaraCloudProject project) {
-        String projectName;
-        projectName = project.getProjectName();
-        JBTerminalWidget terminal = getTerminal(project.getProject(), projectName);
-        if (terminal != null) {
-            String subscriptionValue = Messages.showInputDialog(
-                project.getProject(),
-                "Subscription:",
-                "List Cloud Namespaces",
-                Messages.getQuestionIcon()
-            );
-            if (subscriptionValue != null && !subscriptionValue.trim().isEmpty()) {
-                executeCommand(terminal, project.getNamespaceCommand() + " -D" + CloudMavenProject.SUBSCRIPTION_ATTR + "='" + subscriptionValue + "'");
-            } else {
-                executeCommand(terminal, project.getNamespaceCommand());
-            }
-        } else {
-            LOG.log(WARNING, "Shell window for {0} is not available.", projectName);
+        String subscriptionValue = Messages.showInputDialog(
+            project.getProject(),
+            "Subscription:",
+            "List Cloud Namespaces",
+            Messages.getQuestionIcon()
+        );
+        BuildCommand cmd = project.getNamespaceCommand();
+        if (subscriptionValue != null && !subscriptionValue.trim().isEmpty()) {
+            cmd = cmd.withProperty(CloudMavenProject.SUBSCRIPTION_ATTR, subscriptionValue);
         }
+        list(project, PayaraBundle.message("CloudAction.list.namespaces"),
+                client -> client.getNamespaces(subscriptionValue), cmd);
     }
 
 }
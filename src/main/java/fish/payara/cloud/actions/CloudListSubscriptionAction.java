@@ -16,10 +16,9 @@
  */
 package fish.payara.cloud.actions;
 
-import com.intellij.terminal.JBTerminalWidget;
+import fish.payara.PayaraBundle;
 import fish.payara.cloud.PayaraCloudProject;
-import static java.util.logging.Level.WARNING;
-import java.util.logging.Logger;
+import fish.payara.cloud.maven.CloudClientService;
 
 /**
  *
@@ -27,18 +26,10 @@ import java.util.logging.Logger;
  */
 public class CloudListSubscriptionAction extends CloudAction {
 
-    private static final Logger LOG = Logger.getLogger(CloudListSubscriptionAction.class.getName());
-
     @Override
     public void onAction(PayaraCloudProject project) {
-        String projectName;
-        projectName = project.getProjectName();
-        JBTerminalWidget terminal = getTerminal(project.getProject(), projectName);
-        if (terminal != null) {
-            executeCommand(terminal, project.getSubscriptionCommand());
-        } else {
-            LOG.log(WARNING, "Shell window for {0} is not available.", projectName);
-        }
+        list(project, PayaraBundle.message("CloudAction.list.subscriptions"),
+                CloudClientService::getSubscriptions, project.getSubscriptionCommand());
     }
 
 }
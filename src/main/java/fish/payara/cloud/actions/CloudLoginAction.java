@@ -16,12 +16,9 @@
  */
 package fish.payara.cloud.actions;
 
-import com.intellij.terminal.JBTerminalWidget;
 import fish.payara.cloud.PayaraCloudProject;
-
-import java.util.logging.Logger;
-
-import static java.util.logging.Level.WARNING;
+import fish.payara.cloud.maven.CloudClientService;
+import fish.payara.execution.PayaraExecution;
 
 /**
  *
@@ -29,17 +26,15 @@ import static java.util.logging.Level.WARNING;
  */
 public class CloudLoginAction extends CloudAction {
 
-    private static final Logger LOG = Logger.getLogger(CloudLoginAction.class.getName());
-
     @Override
     public void onAction(PayaraCloudProject project) {
-        String projectName;
-        projectName = project.getProjectName();
-        JBTerminalWidget terminal = getTerminal(project.getProject(), projectName + " instance");
-        if (terminal != null) {
-            executeCommand(terminal, project.getLoginCommand());
+        PayaraExecution execution = executeCommand(project, project.getProjectName() + " instance", project.getLoginCommand());
+        // the in-process contexts must pick up the new token
+        CloudClientService client = CloudClientService.getInstance(project.getProject());
+        if (execution != null) {
+            execution.getExitCode().thenRun(client::invalidate);
         } else {
-            LOG.log(WARNING, "Shell window for {0} is not available.", projectName);
+            client.invalidate();
         }
     }
 
@@ -16,31 +16,22 @@
  */
 package fish.payara.cloud.actions;
 
-import com.intellij.terminal.JBTerminalWidget;
 import fish.payara.cloud.PayaraCloudProject;
 
-import java.util.logging.Logger;
-
-import static java.util.logging.Level.WARNING;
-
 /**
  *
  * @author gaurav.gupta@payara.fish
  */
 public class CloudStartAction extends CloudAction {
 
-    private static final Logger LOG = Logger.getLogger(CloudStartAction.class.getName());
+    @Override
+    protected boolean isBuild() {
+        return true;
+    }
 
     @Override
     public void onAction(PayaraCloudProject project) {
-        String projectName;
-        projectName = project.getProjectName();
-        JBTerminalWidget terminal = getTerminal(project.getProject(), projectName + " instance");
-        if (terminal != null) {
-            executeCommand(terminal, project.getStartCommand());
-        } else {
-            LOG.log(WARNING, "Shell window for {0} is not available.", projectName);
-        }
+        executeBuild(project, project.getProjectName() + " instance", project.getStartCommand());
     }
 
 }
@@ -16,10 +16,7 @@
  */
 package fish.payara.cloud.actions;
 
-import com.intellij.terminal.JBTerminalWidget;
 import fish.payara.cloud.PayaraCloudProject;
-import static java.util.logging.Level.WARNING;
-import java.util.logging.Logger;
 
 /**
  *
@@ -27,18 +24,9 @@ import java.util.logging.Logger;
  */
 public class CloudStopAction extends CloudAction {
 
-    private static final Logger LOG = Logger.getLogger(CloudStopAction.class.getName());
-
     @Override
     public void onAction(PayaraCloudProject project) {
-        String projectName;
-        projectName = project.getProjectName();
-        JBTerminalWidget terminal = getTerminal(project.getProject(), projectName);
-        if (terminal != null) {
-            executeCommand(terminal, project.getStopCommand());
-        } else {
-            LOG.log(WARNING, "Shell window for {0} is not available.", projectName);
-        }
+        executeCommand(project, project.getProjectName(), project.getStopCommand());
     }
 
 }
@@ -16,31 +16,17 @@
  */
 package fish.payara.cloud.actions;
 
-import com.intellij.terminal.JBTerminalWidget;
 import fish.payara.cloud.PayaraCloudProject;
 
-import java.util.logging.Logger;
-
-import static java.util.logging.Level.WARNING;
-
 /**
  *
  * @author gaurav.gupta@payara.fish
  */
 public class CloudUndeployAction extends CloudAction {
 
-    private static final Logger LOG = Logger.getLogger(CloudUndeployAction.class.getName());
-
     @Override
     public void onAction(PayaraCloudProject project) {
-        String projectName;
-        projectName = project.getProjectName();
-        JBTerminalWidget terminal = getTerminal(project.getProject(), projectName + " instance");
-        if (terminal != null) {
-            executeCommand(terminal, project.getUndeployCommand());
-        } else {
-            LOG.log(WARNING, "Shell window for {0} is not available.", projectName);
-        }
+        executeCommand(project, project.getProjectName() + " instance", project.getUndeployCommand());
     }
 
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.cloud.maven;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import fish.payara.tools.cloud.ApplicationContext;
+import fish.payara.tools.cloud.ListApplications;
+import fish.payara.tools.cloud.ListNamespaces;
+import fish.payara.tools.cloud.ListSubscriptions;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.ws.rs.core.Link;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Queries Payara Cloud in-process with the same client library as the Payara
+ * Cloud Maven plugin, so listing does not boot Maven. The application
+ * contexts are kept per subscription and namespace for the lifetime of the
+ * project.
+ */
+@Service(Service.Level.PROJECT)
+public final class CloudClientService implements Disposable {
+
+    private final Map<String, ApplicationContext> contexts = new ConcurrentHashMap<>();
+
+    public static CloudClientService getInstance(@NotNull Project project) {
+        return project.getService(CloudClientService.class);
+    }
+
+    @NotNull
+    public List<Link> getSubscriptions() throws Exception {
+        return new ListSubscriptions(getContext(true, null, null)).call();
+    }
+
+    @NotNull
+    public List<Link> getNamespaces(@Nullable String subscription) throws Exception {
+        return new ListNamespaces(getContext(false, subscription, null)).call();
+    }
+
+    @NotNull
+    public List<Link> getApplications(@Nullable String subscription, @Nullable String namespace) throws Exception {
+        return new ListApplications(getContext(false, subscription, namespace)).call();
+    }
+
+    /**
+     * Drops the cached contexts, e.g. after a new login.
+     */
+    public void invalidate() {
+        contexts.clear();
+    }
+
+    private ApplicationContext getContext(boolean interactive, String subscription, String namespace) {
+        String key = interactive + "/" + valueOf(subscription) + "/" + valueOf(namespace);
+        return contexts.computeIfAbsent(key, k -> {
+            ApplicationContext.Builder builder = CloudUtil.getApplicationContextBuilder(interactive);
+            if (!valueOf(subscription).isEmpty()) {
+                builder.subscriptionName(subscription);
+            }
+            if (!valueOf(namespace).isEmpty()) {
+                builder.namespaceName(namespace);
+            }
+            return builder.build();
+        });
+    }
+
+    private static String valueOf(String value) {
+        return value != null ? value.trim() : "";
+    }
+
+    @Override
+    public void dispose() {
+        contexts.clear();
+    }
+}
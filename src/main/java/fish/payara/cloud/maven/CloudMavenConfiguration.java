@@ -23,6 +23,7 @@ import com.intellij.execution.configurations.RemoteConnectionCreator;
 import com.intellij.execution.configurations.RunConfiguration;
 import com.intellij.openapi.options.SettingsEditor;
 import com.intellij.openapi.project.Project;
+import fish.payara.project.PayaraProjectService;
 import org.jetbrains.idea.maven.execution.MavenRunConfiguration;
 import org.jetbrains.idea.maven.execution.MavenRunnerParameters;
 import com.intellij.execution.runners.ExecutionEnvironment;
@@ -62,7 +63,7 @@ public class CloudMavenConfiguration extends MavenRunConfiguration {
                 parameters.setWorkingDirPath(super.getProject().getBasePath());
             }
             if (parameters.getGoals().isEmpty()) {
-                CloudMavenProject mavenProject = CloudMavenProject.getInstance(super.getProject());
+                CloudMavenProject mavenProject = PayaraProjectService.getInstance(super.getProject()).getCloudProject();
                 if (mavenProject == null) {
                     parameters.getGoals().add(String.format(
                             "%s:%s:%s:%s",
@@ -18,24 +18,23 @@ package fish.payara.cloud.maven;
 
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.search.FilenameIndex;
-import com.intellij.psi.search.GlobalSearchScope;
 import fish.payara.cloud.PayaraCloudProject;
+import fish.payara.execution.BuildCommand;
+import fish.payara.execution.BuildFingerprint;
+import fish.payara.project.PayaraPluginClassifier;
+import fish.payara.project.PayaraPluginDescriptor;
+import fish.payara.util.MavenModelUtil;
 import fish.payara.util.MavenUtil;
-import org.w3c.dom.Node;
-import org.xml.sax.SAXException;
-import javax.xml.parsers.ParserConfigurationException;
-import java.io.IOException;
-import java.util.logging.Logger;
-import static java.util.logging.Level.SEVERE;
+import java.nio.file.Path;
+import java.util.Map;
+import org.jetbrains.idea.maven.project.MavenProject;
+import static fish.payara.project.PayaraPluginKind.CLOUD;
 
 /**
  * @author gaurav.gupta@payara.fish
  */
 public class CloudMavenProject extends PayaraCloudProject {
 
-    private static final Logger LOG = Logger.getLogger(CloudMavenProject.class.getName());
-
     public static final String CLOUD_GROUP_ID = "fish.payara.maven.plugins";
     public static final String CLOUD_ARTIFACT_ID = "payara-cloud-maven-plugin";
     public static final String CLOUD_VERSION = "1.0-Alpha4";
@@ -50,136 +49,143 @@ public class CloudMavenProject extends PayaraCloudProject {
     private static final String NAMESPACE_GOAL = "list-namespaces";
     private static final String SUBSCRIPTION_GOAL = "list-subscriptions";
     public static final String PACKAGE_GOAL = "package";
-    private static final String BUILD_FILE = "pom.xml";
+    private static final String SKIP_COMPILE_PROPERTY = "maven.main.skip";
     public static final String NAMESPACE_ATTR = "namespaceName";
     public static final String SUBSCRIPTION_ATTR = "subscriptionName";
     public static final String APPLICATION_NAME_ATTR = "applicationName";
+    private String projectName;
+    private volatile BuildFingerprint fingerprint;
 
     @Override
-    public String getLoginCommand() {
-        return String.format("mvn %s:%s:%s",
-                CLOUD_GROUP_ID, CLOUD_ARTIFACT_ID, LOGIN_GOAL
-        );
+    public BuildCommand getLoginCommand() {
+        return getPluginCommand(LOGIN_GOAL);
     }
 
     @Override
-    public String getDevCommand() {
-        return String.format("mvn %s %s:%s:%s",
-                PACKAGE_GOAL,
-                CLOUD_GROUP_ID, CLOUD_ARTIFACT_ID, DEV_GOAL
-        );
+    public BuildCommand getDevCommand() {
+        return getPackageCommand().then(getPluginCommand(DEV_GOAL).blocking());
     }
 
     @Override
-    public String getDeployCommand() {
-        return String.format("mvn %s %s:%s:%s",
-                PACKAGE_GOAL,
-                CLOUD_GROUP_ID, CLOUD_ARTIFACT_ID, DEPLOY_GOAL
-        );
+    public BuildCommand getDeployCommand() {
+        return getPackageCommand().then(getPluginCommand(DEPLOY_GOAL));
     }
 
     @Override
-    public String getUndeployCommand() {
-        return String.format("mvn %s %s:%s:%s",
-                PACKAGE_GOAL,
-                CLOUD_GROUP_ID, CLOUD_ARTIFACT_ID, UNDEPLOY_GOAL
-        );
+    public BuildCommand getUndeployCommand() {
+        // the undeployment does not need the artifact
+        return getPluginCommand(UNDEPLOY_GOAL);
     }
 
     @Override
-    public String getStartCommand() {
-        return String.format("mvn %s %s:%s:%s",
-                PACKAGE_GOAL,
-                CLOUD_GROUP_ID, CLOUD_ARTIFACT_ID, START_GOAL
-        );
+    public BuildCommand getStartCommand() {
+        return getPackageCommand().then(getPluginCommand(START_GOAL));
     }
 
     @Override
-    public String getStopCommand() {
-        return String.format("mvn %s:%s:%s",
-                CLOUD_GROUP_ID, CLOUD_ARTIFACT_ID, STOP_GOAL
-        );
+    public BuildCommand getStopCommand() {
+        return getPluginCommand(STOP_GOAL);
     }
 
     @Override
-    public String getApplicationCommand() {
-        return String.format("mvn %s:%s:%s",
-                CLOUD_GROUP_ID, CLOUD_ARTIFACT_ID, APPLICATION_GOAL
-        );
+    public BuildCommand getApplicationCommand() {
+        return getPluginCommand(APPLICATION_GOAL);
     }
 
     @Override
-    public String getNamespaceCommand() {
-        return String.format("mvn %s:%s:%s",
-                CLOUD_GROUP_ID, CLOUD_ARTIFACT_ID, NAMESPACE_GOAL
-        );
+    public BuildCommand getNamespaceCommand() {
+        return getPluginCommand(NAMESPACE_GOAL);
     }
 
     @Override
-    public String getSubscriptionCommand() {
-        return String.format("mvn %s:%s:%s",
-                CLOUD_GROUP_ID, CLOUD_ARTIFACT_ID, SUBSCRIPTION_GOAL
-        );
-    }
-
-    public static CloudMavenProject getInstance(Project project) {
-        PsiFile pom = getPomFile(project);
-        if (pom != null) {
-            return new CloudMavenProject(project, pom);
-        }
-        return null;
-    }
-
-    public CloudMavenProject(Project project, PsiFile pom) {
-        super(project, pom);
+    public BuildCommand getSubscriptionCommand() {
+        return getPluginCommand(SUBSCRIPTION_GOAL);
     }
 
     /**
-     * Return the project name from pom.xml artifactId
+     * The package phase always runs, as the Cloud goals read the war from the
+     * project artifact, which only the package phase attaches.
      *
-     * @return
+     * @return the package phase, without the compilation if the artifact is
+     * up-to-date
      */
-    @Override
-    public String getProjectName() {
-       return MavenUtil.getProjectName(super.getBuildFile());
+    private BuildCommand getPackageCommand() {
+        BuildFingerprint current = fingerprint;
+        BuildCommand command = BuildCommand.maven(PACKAGE_GOAL);
+        return current != null && current.isUpToDate() ? command.withProperty(SKIP_COMPILE_PROPERTY, "true") : command;
     }
 
     /**
-     * @param project
-     * @return the pom.xml file
+     * Fingerprints the build inputs, so the next packaging command skips the
+     * compilation if they did not change since the last successful build.
+     * Without the imported Maven model the inputs are not known, so the
+     * compilation always runs. The commands typed into the Terminal report no
+     * exit code, so their builds are never recorded and the compilation is
+     * not skipped after them.
      */
-    private static PsiFile getPomFile(Project project) {
-        PsiFile[] poms = FilenameIndex.getFilesByName(project, BUILD_FILE, GlobalSearchScope.projectScope(project));
-        for (PsiFile pom : poms) {
-            if (isValidPom(pom)) {
-                return pom;
-            }
+    @Override
+    public void prepareBuild() {
+        MavenProject mavenProject = MavenModelUtil.findProject(getProject(), getBuildFile());
+        if (mavenProject == null || mavenProject.getFinalName() == null) {
+            fingerprint = null;
+            return;
+        }
+        fingerprint = BuildFingerprint.compute(
+                Path.of(mavenProject.getDirectory()),
+                Path.of(mavenProject.getBuildDirectory(), mavenProject.getFinalName() + ".war"),
+                MavenModelUtil.getBuildInputs(getProject(), mavenProject)
+        );
+    }
+
+    @Override
+    public void buildSucceeded() {
+        BuildFingerprint current = fingerprint;
+        if (current != null) {
+            current.record();
         }
-        return null;
+    }
+
+    private static BuildCommand getPluginCommand(String goal) {
+        return BuildCommand.maven(String.format("%s:%s:%s", CLOUD_GROUP_ID, CLOUD_ARTIFACT_ID, goal));
+    }
+
+    public static CloudMavenProject getInstance(Project project) {
+        return getInstance(project, PayaraPluginClassifier.classify(project));
     }
 
     /**
-     * @param pomFile the pom.xml file
-     * @return true if pom.xml file includes Payara Cloud Maven plugin
+     * @param project the project
+     * @param descriptors the classified pom.xml files of the project
+     * @return the first project declaring the plugin or null
      */
-    private static boolean isValidPom(PsiFile pomFile) {
-        try {
-            Node pomRoot = MavenUtil.getPomRootNode(pomFile);
-            return MavenUtil.getBuildNodes(pomRoot)
-                    .stream()
-                    .anyMatch(CloudMavenProject::isCloudPlugin);
-        } catch (ParserConfigurationException | SAXException | IOException ex) {
-            LOG.log(SEVERE, null, ex);
-        }
-        return false;
+    public static CloudMavenProject getInstance(Project project, Map<PsiFile, PayaraPluginDescriptor> descriptors) {
+        return descriptors.entrySet().stream()
+                .filter(entry -> entry.getValue().hasKind(CLOUD))
+                .findFirst()
+                .map(entry -> new CloudMavenProject(project, entry.getKey(), entry.getValue()))
+                .orElse(null);
+    }
+
+    public CloudMavenProject(Project project, PsiFile pom) {
+        this(project, pom, PayaraPluginClassifier.classify(pom));
+    }
+
+    private CloudMavenProject(Project project, PsiFile pom, PayaraPluginDescriptor descriptor) {
+        super(project, pom);
+        this.projectName = descriptor.getProjectName();
     }
 
     /**
-     * @param buildNode
-     * @return true if pom.xml file includes Payara Cloud Maven plugin
+     * Return the project name from pom.xml name or artifactId
+     *
+     * @return
      */
-    private static boolean isCloudPlugin(Node buildNode) {
-        return MavenUtil.getPluginNode(buildNode, CLOUD_GROUP_ID, CLOUD_ARTIFACT_ID) != null;
+    @Override
+    public String getProjectName() {
+        if (projectName == null) {
+            projectName = MavenUtil.getProjectName(super.getBuildFile());
+        }
+        return projectName;
     }
 
 }
@@ -47,7 +47,7 @@ public class CloudUtil {
         return controller.call();
     }
 
-    private static ApplicationContext.Builder getApplicationContextBuilder(boolean intractive) {
+    static ApplicationContext.Builder getApplicationContextBuilder(boolean intractive) {
         ApplicationContext.Builder builder = ApplicationContext.builder(CLIENT_ID, CLIENT_NAME)
                 .clientOutput(new CloudMavenOutput(intractive))
                 .interactive(intractive);
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.execution.ExecutionListener;
+import com.intellij.execution.configurations.RunProfile;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.runners.ExecutionEnvironment;
+import fish.payara.cloud.maven.CloudMavenConfiguration;
+import fish.payara.micro.maven.MicroMavenConfiguration;
+import fish.payara.server.maven.ServerMavenConfiguration;
+import java.nio.file.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.idea.maven.execution.MavenRunConfiguration;
+
+/**
+ * Reports the Maven build cache hits and misses of the Payara Maven run
+ * configurations.
+ */
+public class BuildCacheExecutionListener implements ExecutionListener {
+
+    @Override
+    public void processStarting(@NotNull String executorId, @NotNull ExecutionEnvironment env, @NotNull ProcessHandler handler) {
+        RunProfile profile = env.getRunProfile();
+        if (profile instanceof MicroMavenConfiguration
+                || profile instanceof ServerMavenConfiguration
+                || profile instanceof CloudMavenConfiguration) {
+            String workingDir = ((MavenRunConfiguration) profile).getRunnerParameters().getWorkingDirPath();
+            MavenBuildCache.attach(handler, workingDir.isEmpty() ? null : Path.of(workingDir));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.execution.process.ProcessEvent;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessListener;
+import com.intellij.execution.process.ProcessOutputTypes;
+import com.intellij.openapi.util.Key;
+import fish.payara.PayaraBundle;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Counts the build cache hits and misses of each module from the Maven output
+ * and prints them in the console when the build terminates.
+ */
+class BuildCacheReport implements ProcessListener {
+
+    private static final Logger LOG = Logger.getLogger(BuildCacheReport.class.getName());
+
+    /**
+     * The reactor header of a module, e.g.
+     * {@code ------< fish.payara:demo >------}.
+     */
+    private static final Pattern MODULE_HEADER = Pattern.compile("< ([\\w.\\-]+):([\\w.\\-]+) >");
+    private static final String HIT = "Found cached build, restoring";
+    private static final String MISS = "Local build was not found by checksum";
+
+    private final ProcessHandler processHandler;
+
+    private final StringBuilder line = new StringBuilder();
+
+    /**
+     * Hits and misses per module artifactId, in build order.
+     */
+    private final Map<String, int[]> modules = new LinkedHashMap<>();
+
+    private String module;
+
+    BuildCacheReport(ProcessHandler processHandler) {
+        this.processHandler = processHandler;
+    }
+
+    @Override
+    public void onTextAvailable(@NotNull ProcessEvent event, @NotNull Key outputType) {
+        if (outputType == ProcessOutputTypes.SYSTEM) {
+            return;
+        }
+        String text = event.getText();
+        synchronized (line) {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == '\n') {
+                    parse(line.toString());
+                    line.setLength(0);
+                } else if (c != '\r') {
+                    line.append(c);
+                }
+            }
+        }
+    }
+
+    private void parse(String text) {
+        Matcher header = MODULE_HEADER.matcher(text);
+        if (header.find()) {
+            module = header.group(2);
+        } else if (module != null && text.contains(HIT)) {
+            modules.computeIfAbsent(module, key -> new int[2])[0]++;
+        } else if (module != null && text.contains(MISS)) {
+            modules.computeIfAbsent(module, key -> new int[2])[1]++;
+        }
+    }
+
+    @Override
+    public void processTerminated(@NotNull ProcessEvent event) {
+        StringBuilder report = new StringBuilder();
+        int hits = 0, misses = 0;
+        synchronized (line) {
+            if (modules.isEmpty()) {
+                return;
+            }
+            for (Map.Entry<String, int[]> entry : modules.entrySet()) {
+                int[] counts = entry.getValue();
+                hits += counts[0];
+                misses += counts[1];
+                report.append(PayaraBundle.message("BuildCacheReport.module", entry.getKey(), counts[0], counts[1]))
+                        .append('\n');
+            }
+        }
+        String summary = PayaraBundle.message("BuildCacheReport.summary", hits, misses);
+        LOG.info(summary);
+        processHandler.notifyTextAvailable(summary + '\n' + report, ProcessOutputTypes.SYSTEM);
+    }
+}
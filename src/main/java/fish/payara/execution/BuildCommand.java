@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.util.execution.ParametersListUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An immutable Maven or Gradle invocation: the command line options, the
+ * goals (or tasks) in execution order and the system properties. Consecutive
+ * commands of the same tool can be fused into a single invocation, so they
+ * share one JVM and one dependency resolution.
+ */
+public final class BuildCommand {
+
+    public enum Tool {
+
+        MAVEN("mvn"),
+        GRADLE("gradle");
+
+        private final String executable;
+
+        Tool(String executable) {
+            this.executable = executable;
+        }
+
+        public String getExecutable() {
+            return executable;
+        }
+    }
+
+    /**
+     * The phases of the Maven default lifecycle, in order.
+     */
+    private static final List<String> MAVEN_PHASES = List.of(
+            "validate", "initialize", "generate-sources", "process-sources",
+            "generate-resources", "process-resources", "compile", "process-classes",
+            "generate-test-sources", "process-test-sources", "generate-test-resources",
+            "process-test-resources", "test-compile", "process-test-classes", "test",
+            "prepare-package", "package", "pre-integration-test", "integration-test",
+            "post-integration-test", "verify", "install", "deploy"
+    );
+
+    /**
+     * The goals bound to the default lifecycle of a war packaging.
+     */
+    private static final Map<String, String> MAVEN_BINDINGS = Map.of(
+            "resources:resources", "process-resources",
+            "compiler:compile", "compile",
+            "resources:testResources", "process-test-resources",
+            "compiler:testCompile", "test-compile",
+            "surefire:test", "test",
+            "war:war", "package"
+    );
+
+    private final Tool tool;
+    private final List<String> options;
+    private final List<String> goals;
+    private final Map<String, String> properties;
+    private final boolean blocking;
+
+    private BuildCommand(Tool tool, List<String> options, List<String> goals, Map<String, String> properties, boolean blocking) {
+        this.tool = tool;
+        this.options = Collections.unmodifiableList(options);
+        this.goals = Collections.unmodifiableList(goals);
+        this.properties = Collections.unmodifiableMap(properties);
+        this.blocking = blocking;
+    }
+
+    public static BuildCommand maven(String... goals) {
+        return new BuildCommand(Tool.MAVEN, new ArrayList<>(), Arrays.asList(goals), new LinkedHashMap<>(), false);
+    }
+
+    public static BuildCommand gradle(String... tasks) {
+        return new BuildCommand(Tool.GRADLE, new ArrayList<>(), Arrays.asList(tasks), new LinkedHashMap<>(), false);
+    }
+
+    public Tool getTool() {
+        return tool;
+    }
+
+    /**
+     * @return the command line options, e.g. {@code -o} or {@code -T 1C}
+     */
+    public List<String> getOptions() {
+        return options;
+    }
+
+    public List<String> getGoals() {
+        return goals;
+    }
+
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+
+    /**
+     * @return true if the last goal runs until it is stopped, e.g. the dev
+     * goals, so nothing can be fused after it
+     */
+    public boolean isBlocking() {
+        return blocking;
+    }
+
+    @NotNull
+    public BuildCommand withGoals(String... goals) {
+        List<String> merged = new ArrayList<>(this.goals);
+        merged.addAll(Arrays.asList(goals));
+        return new BuildCommand(tool, new ArrayList<>(options), merged, new LinkedHashMap<>(properties), blocking);
+    }
+
+    /**
+     * @param options the command line options, added unless already present
+     * in this order
+     * @return the command with the options
+     */
+    @NotNull
+    public BuildCommand withOptions(String... options) {
+        List<String> added = Arrays.asList(options);
+        if (added.isEmpty() || Collections.indexOfSubList(this.options, added) >= 0) {
+            return this;
+        }
+        List<String> merged = new ArrayList<>(this.options);
+        merged.addAll(added);
+        return new BuildCommand(tool, merged, new ArrayList<>(goals), new LinkedHashMap<>(properties), blocking);
+    }
+
+    @NotNull
+    public BuildCommand withProperty(@NotNull String name, @NotNull String value) {
+        Map<String, String> merged = new LinkedHashMap<>(properties);
+        merged.put(name, value);
+        return new BuildCommand(tool, new ArrayList<>(options), new ArrayList<>(goals), merged, blocking);
+    }
+
+    /**
+     * @param definition a system property definition, e.g.
+     * {@code -Dexploded=true}
+     * @return the command with the property
+     */
+    @NotNull
+    public BuildCommand withDefinition(@NotNull String definition) {
+        if (!definition.startsWith("-D")) {
+            throw new IllegalArgumentException("Not a property definition: " + definition);
+        }
+        int separator = definition.indexOf('=');
+        return separator < 0
+                ? withProperty(definition.substring(2), "true")
+                : withProperty(definition.substring(2, separator), definition.substring(separator + 1));
+    }
+
+    /**
+     * @return the command marked as running until it is stopped
+     */
+    @NotNull
+    public BuildCommand blocking() {
+        return new BuildCommand(tool, new ArrayList<>(options), new ArrayList<>(goals), new LinkedHashMap<>(properties), true);
+    }
+
+    /**
+     * @param next the command to run after this one
+     * @return true if both can run as a single invocation: same tool, this
+     * command terminates by itself and no property has different values
+     */
+    public boolean canFuse(@NotNull BuildCommand next) {
+        if (tool != next.tool || blocking) {
+            return false;
+        }
+        return next.properties.entrySet().stream()
+                .allMatch(property -> !properties.containsKey(property.getKey())
+                || Objects.equals(properties.get(property.getKey()), property.getValue()));
+    }
+
+    /**
+     * Fuses the next command into a single invocation, dropping the goals
+     * already covered by the ones before: duplicates, lifecycle phases
+     * already reached and goals bound to those phases.
+     *
+     * @param next the command to run after this one
+     * @return the fused command
+     * @throws IllegalArgumentException if the commands can not be fused
+     */
+    @NotNull
+    public BuildCommand then(@NotNull BuildCommand next) {
+        if (!canFuse(next)) {
+            throw new IllegalArgumentException(this + " can not be fused with " + next);
+        }
+        List<String> merged = new ArrayList<>(goals);
+        merged.addAll(next.goals);
+        Map<String, String> mergedProperties = new LinkedHashMap<>(properties);
+        mergedProperties.putAll(next.properties);
+        List<String> mergedOptions = new ArrayList<>(options);
+        if (Collections.indexOfSubList(options, next.options) < 0) {
+            mergedOptions.addAll(next.options);
+        }
+        return new BuildCommand(tool, mergedOptions, deduplicate(tool, merged), mergedProperties, next.blocking);
+    }
+
+    /**
+     * @param commands the commands in execution order
+     * @return the fewest invocations running the same goals in the same order
+     */
+    @NotNull
+    public static List<BuildCommand> fuse(@NotNull List<BuildCommand> commands) {
+        List<BuildCommand> fused = new ArrayList<>();
+        for (BuildCommand command : commands) {
+            int last = fused.size() - 1;
+            if (last >= 0 && fused.get(last).canFuse(command)) {
+                fused.set(last, fused.get(last).then(command));
+            } else {
+                fused.add(command);
+            }
+        }
+        return fused;
+    }
+
+    private static List<String> deduplicate(Tool tool, List<String> goals) {
+        List<String> result = new ArrayList<>();
+        int reachedPhase = -1;
+        for (String goal : goals) {
+            if (result.contains(goal)) {
+                continue;
+            }
+            if (tool == Tool.MAVEN) {
+                int phase = MAVEN_PHASES.indexOf(goal);
+                int boundPhase = MAVEN_PHASES.indexOf(MAVEN_BINDINGS.getOrDefault(goal, ""));
+                if (phase >= 0) {
+                    if (phase <= reachedPhase) {
+                        continue;
+                    }
+                    reachedPhase = phase;
+                } else if (boundPhase >= 0 && boundPhase <= reachedPhase) {
+                    continue;
+                }
+            }
+            result.add(goal);
+        }
+        return result;
+    }
+
+    /**
+     * @return the system properties as {@code -Dname=value} arguments
+     */
+    @NotNull
+    public List<String> getDefinitions() {
+        List<String> definitions = new ArrayList<>();
+        properties.forEach((name, value) -> definitions.add("-D" + name + '=' + value));
+        return definitions;
+    }
+
+    /**
+     * @return the arguments after the executable
+     */
+    @NotNull
+    public List<String> getArguments() {
+        List<String> arguments = new ArrayList<>(options);
+        arguments.addAll(goals);
+        arguments.addAll(getDefinitions());
+        return arguments;
+    }
+
+    /**
+     * @return the command line, parsable by {@link ParametersListUtil#parse}
+     */
+    @Override
+    public String toString() {
+        List<String> commandLine = new ArrayList<>();
+        commandLine.add(tool.getExecutable());
+        commandLine.addAll(getArguments());
+        return ParametersListUtil.join(commandLine);
+    }
+}
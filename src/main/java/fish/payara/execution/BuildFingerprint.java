@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.logging.Level.WARNING;
+
+/**
+ * The inputs of a Maven war package: the pom.xml, every file under
+ * {@code src/main} and the inputs resolved from the Maven model, i.e. the
+ * parent poms and the dependencies, identified by path, size and modification
+ * time. The fingerprint of the last successful build is stored in
+ * {@code target}, next to the artifact, so the compilation can be skipped
+ * while it matches.
+ */
+public final class BuildFingerprint {
+
+    private static final Logger LOG = Logger.getLogger(BuildFingerprint.class.getName());
+
+    private static final String POM = "pom.xml";
+    private static final String SOURCES = "src/main";
+    private static final String TARGET = "target";
+    private static final String FINGERPRINT_FILE = "payara-build.fingerprint";
+
+    private final Path projectDirectory;
+    private final String value;
+    private final boolean upToDate;
+
+    private BuildFingerprint(Path projectDirectory, String value, boolean upToDate) {
+        this.projectDirectory = projectDirectory;
+        this.value = value;
+        this.upToDate = upToDate;
+    }
+
+    /**
+     * Fingerprints the current inputs and compares them with the last
+     * successful build. Walks the source trees, so must not be called on the
+     * EDT.
+     *
+     * @param projectDirectory the directory of the pom.xml
+     * @param artifact the war built by the package phase
+     * @param inputs the other files and directories the build reads
+     * @return the fingerprint of the current inputs
+     */
+    @NotNull
+    public static BuildFingerprint compute(@NotNull Path projectDirectory, @NotNull Path artifact,
+            @NotNull Collection<Path> inputs) {
+        String value;
+        try {
+            value = digest(projectDirectory, inputs);
+        } catch (IOException ex) {
+            LOG.log(WARNING, "Unable to fingerprint " + projectDirectory, ex);
+            return new BuildFingerprint(projectDirectory, null, false);
+        }
+        return new BuildFingerprint(projectDirectory, value,
+                value.equals(readRecorded(projectDirectory)) && Files.isRegularFile(artifact));
+    }
+
+    /**
+     * @return true if the inputs did not change since the last successful
+     * build and its artifact is still there
+     */
+    public boolean isUpToDate() {
+        return upToDate;
+    }
+
+    /**
+     * Stores the fingerprint as the one of the last successful build.
+     */
+    public void record() {
+        Path target = projectDirectory.resolve(TARGET);
+        if (value == null || !Files.isDirectory(target)) {
+            return;
+        }
+        try {
+            Files.writeString(target.resolve(FINGERPRINT_FILE), value, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            LOG.log(WARNING, "Unable to record the build fingerprint of " + projectDirectory, ex);
+        }
+    }
+
+    private static String digest(Path projectDirectory, Collection<Path> otherInputs) throws IOException {
+        List<Path> inputs = new ArrayList<>();
+        Path pom = projectDirectory.resolve(POM);
+        if (Files.isRegularFile(pom)) {
+            inputs.add(pom);
+        }
+        addFiles(projectDirectory.resolve(SOURCES), inputs);
+        for (Path input : otherInputs) {
+            if (Files.isDirectory(input)) {
+                addFiles(input, inputs);
+            } else {
+                // a missing input is part of the fingerprint too
+                inputs.add(input);
+            }
+        }
+        MessageDigest digest = newDigest();
+        for (Path input : inputs) {
+            String entry;
+            if (Files.isRegularFile(input)) {
+                BasicFileAttributes attributes = Files.readAttributes(input, BasicFileAttributes.class);
+                entry = input.toAbsolutePath() + "\0" + attributes.size()
+                        + "\0" + attributes.lastModifiedTime().toMillis() + "\n";
+            } else {
+                entry = input.toAbsolutePath() + "\0-\n";
+            }
+            digest.update(entry.getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void addFiles(Path directory, List<Path> inputs) throws IOException {
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.filter(Files::isRegularFile).sorted().forEach(inputs::add);
+            }
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static String readRecorded(Path projectDirectory) {
+        Path file = projectDirectory.resolve(TARGET).resolve(FINGERPRINT_FILE);
+        try {
+            return Files.isRegularFile(file) ? Files.readString(file, StandardCharsets.UTF_8).trim() : null;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import fish.payara.PayaraBundle;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Declares the Maven build cache extension in the project, so the Payara
+ * Maven builds restore the unchanged modules from the local cache.
+ */
+public class EnableMavenBuildCacheAction extends AnAction {
+
+    private static final Logger LOG = Logger.getLogger(EnableMavenBuildCacheAction.class.getName());
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        Path baseDir = getBaseDir(e.getProject());
+        e.getPresentation().setEnabled(baseDir != null
+                && Files.isRegularFile(baseDir.resolve("pom.xml"))
+                && !MavenBuildCache.isConfigured(baseDir));
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        Path baseDir = getBaseDir(project);
+        if (baseDir == null) {
+            return;
+        }
+        try {
+            MavenBuildCache.enable(baseDir);
+            Messages.showInfoMessage(project,
+                    PayaraBundle.message("EnableMavenBuildCacheAction.enabled", MavenBuildCache.VERSION),
+                    PayaraBundle.message("EnableMavenBuildCacheAction.title"));
+        } catch (IOException ex) {
+            LOG.log(WARNING, "Unable to enable the Maven build cache", ex);
+            Messages.showErrorDialog(project, ex.getMessage(), PayaraBundle.message("EnableMavenBuildCacheAction.title"));
+        }
+    }
+
+    private static Path getBaseDir(Project project) {
+        String basePath = project != null ? project.getBasePath() : null;
+        return basePath != null ? Path.of(basePath) : null;
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Named sets of Maven and Gradle switches applied to every Payara command.
+ */
+public enum ExecutionProfile {
+
+    DEFAULT("Default",
+            List.of(), Map.of(),
+            List.of()),
+    FAST_DEV("Fast dev",
+            List.of("-T", "1C"), Map.of("maven.test.skip", "true"),
+            List.of("--parallel", "--build-cache", "-x", "test")),
+    CI_LIKE("CI-like",
+            List.of("-B", "-V", "--fail-at-end"), Map.of(),
+            List.of("--console=plain", "--continue")),
+    OFFLINE("Offline",
+            List.of("-o"), Map.of(),
+            List.of("--offline"));
+
+    private final String displayName;
+    private final List<String> mavenOptions;
+    private final Map<String, String> mavenProperties;
+    private final List<String> gradleOptions;
+
+    ExecutionProfile(String displayName, List<String> mavenOptions, Map<String, String> mavenProperties, List<String> gradleOptions) {
+        this.displayName = displayName;
+        this.mavenOptions = mavenOptions;
+        this.mavenProperties = mavenProperties;
+        this.gradleOptions = gradleOptions;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * @param command the command
+     * @return the command with the switches of the profile, properties
+     * already set by the command are kept
+     */
+    @NotNull
+    public BuildCommand apply(@NotNull BuildCommand command) {
+        if (command.getTool() == BuildCommand.Tool.GRADLE) {
+            return command.withOptions(gradleOptions.toArray(String[]::new));
+        }
+        BuildCommand result = command.withOptions(mavenOptions.toArray(String[]::new));
+        for (Map.Entry<String, String> property : mavenProperties.entrySet()) {
+            if (!result.getProperties().containsKey(property.getKey())) {
+                result = result.withProperty(property.getKey(), property.getValue());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.project.Project;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The durations of the successful Payara commands per execution profile,
+ * keeping the last {@value #HISTORY_SIZE} runs of each profile in the project
+ * settings.
+ */
+public final class ExecutionTimings {
+
+    private static final String TIMINGS = "fish.payara.execution.timings.";
+    private static final int HISTORY_SIZE = 50;
+    private static final char SEPARATOR = '\t';
+
+    private ExecutionTimings() {
+    }
+
+    /**
+     * Records the duration of the execution if it succeeds. Blocking
+     * commands, e.g. the dev goals, run until stopped, so their duration says
+     * nothing about the build and they are not recorded.
+     *
+     * @param project the project
+     * @param profile the profile applied to the command
+     * @param command the command
+     * @param execution the started execution
+     */
+    public static void track(@NotNull Project project, @NotNull ExecutionProfile profile,
+            @NotNull BuildCommand command, @NotNull PayaraExecution execution) {
+        if (command.isBlocking()) {
+            return;
+        }
+        String goals = String.join(" ", command.getGoals());
+        execution.getExitCode().thenAccept(exitCode -> {
+            if (exitCode == 0 && !project.isDisposed()) {
+                long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - execution.getStartTime());
+                record(project, profile, goals, duration);
+            }
+        });
+    }
+
+    private static synchronized void record(Project project, ExecutionProfile profile, String goals, long duration) {
+        PropertiesComponent properties = PropertiesComponent.getInstance(project);
+        List<String> history = new ArrayList<>(getEntries(properties, profile));
+        history.add(Long.toString(duration) + SEPARATOR + goals);
+        if (history.size() > HISTORY_SIZE) {
+            history = history.subList(history.size() - HISTORY_SIZE, history.size());
+        }
+        properties.setList(TIMINGS + profile.name(), history);
+    }
+
+    private static List<String> getEntries(PropertiesComponent properties, ExecutionProfile profile) {
+        List<String> entries = properties.getList(TIMINGS + profile.name());
+        return entries != null ? entries : Collections.emptyList();
+    }
+
+    /**
+     * @param project the project
+     * @return the run count, average and best duration of each command per
+     * profile, one line each
+     */
+    @NotNull
+    public static String getSummary(@NotNull Project project) {
+        PropertiesComponent properties = PropertiesComponent.getInstance(project);
+        StringBuilder summary = new StringBuilder();
+        for (ExecutionProfile profile : ExecutionProfile.values()) {
+            Map<String, LongSummaryStatistics> statistics = getEntries(properties, profile).stream()
+                    .filter(entry -> entry.indexOf(SEPARATOR) > 0)
+                    .collect(Collectors.groupingBy(
+                            entry -> entry.substring(entry.indexOf(SEPARATOR) + 1),
+                            TreeMap::new,
+                            Collectors.summarizingLong(entry -> Long.parseLong(entry.substring(0, entry.indexOf(SEPARATOR))))
+                    ));
+            if (statistics.isEmpty()) {
+                continue;
+            }
+            summary.append(profile.getDisplayName()).append('\n');
+            statistics.forEach((goals, stats) -> summary.append(String.format("  %s: %d runs, average %d ms, best %d ms%n",
+                    goals, stats.getCount(), Math.round(stats.getAverage()), stats.getMin())));
+        }
+        return summary.toString();
+    }
+}
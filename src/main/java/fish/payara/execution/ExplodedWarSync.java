@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.task.ProjectTaskManager;
+import fish.payara.util.MavenModelUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.concurrency.Promise;
+import org.jetbrains.idea.maven.project.MavenProject;
+
+/**
+ * Updates an exploded war from the IDE build output, without the build tool:
+ * {@code WEB-INF/classes} mirrors the compiler and resources outputs and the
+ * root of the war mirrors the webapp sources, except the content built from
+ * the project. Only the changed files are copied, the ones removed from the
+ * sources are deleted.
+ */
+public final class ExplodedWarSync {
+
+    static final String WEBAPP_DIR = "src/main/webapp";
+    private static final String CLASSES_DIR = "WEB-INF/classes";
+    /**
+     * The content of the exploded war not coming from the webapp sources.
+     */
+    private static final List<String> WAR_OUTPUTS = List.of(CLASSES_DIR, "WEB-INF/lib", "META-INF");
+
+    private final Path compilerOutput;
+    private final Path resourceOutput;
+    private final Path webappDirectory;
+    private final Path explodedDirectory;
+    private final List<String> kept = new ArrayList<>(WAR_OUTPUTS);
+
+    /**
+     * @param compilerOutput the classes output
+     * @param resourceOutput the resources output kept apart from the
+     * compiler output, e.g. by Gradle, or null
+     * @param webappDirectory the webapp sources, or null if not synced
+     * @param explodedDirectory the exploded war
+     * @param kept the other paths of the exploded war, relative to it, not
+     * coming from the webapp sources
+     */
+    public ExplodedWarSync(@NotNull Path compilerOutput, @Nullable Path resourceOutput,
+            @Nullable Path webappDirectory, @NotNull Path explodedDirectory, @NotNull String... kept) {
+        this.compilerOutput = compilerOutput;
+        this.resourceOutput = resourceOutput;
+        this.webappDirectory = webappDirectory;
+        this.explodedDirectory = explodedDirectory;
+        this.kept.addAll(List.of(kept));
+    }
+
+    /**
+     * @param mavenProject the imported war project
+     * @return the sync of {@code target/<finalName>}, the webapp sources are
+     * not synced when the war plugin filters or overlays them
+     */
+    @NotNull
+    public static ExplodedWarSync of(@NotNull MavenProject mavenProject) {
+        return new ExplodedWarSync(Path.of(mavenProject.getOutputDirectory()), null,
+                getWebappDirectory(mavenProject, Path.of(mavenProject.getDirectory())),
+                Path.of(mavenProject.getBuildDirectory(), mavenProject.getFinalName()));
+    }
+
+    /**
+     * @param mavenProject the imported war project, or null if not a Maven
+     * project
+     * @param projectDirectory the directory of the build file
+     * @return the webapp sources, null if the war plugin filters or overlays
+     * them, the war:exploded output is kept instead
+     */
+    @Nullable
+    public static Path getWebappDirectory(@Nullable MavenProject mavenProject, @NotNull Path projectDirectory) {
+        if (mavenProject != null && MavenModelUtil.isWebappProcessed(mavenProject)) {
+            return null;
+        }
+        return projectDirectory.resolve(WEBAPP_DIR);
+    }
+
+    /**
+     * Builds the module with the IDE compiler.
+     *
+     * @param project the project
+     * @param module the module
+     * @return completed with true if the module compiled without error
+     */
+    @NotNull
+    public static Promise<Boolean> compile(@NotNull Project project, @NotNull Module module) {
+        return ProjectTaskManager.getInstance(project).build(module)
+                .then(result -> result != null && !result.isAborted() && !result.hasErrors());
+    }
+
+    public Path getExplodedDirectory() {
+        return explodedDirectory;
+    }
+
+    /**
+     * Mirrors the build output and the webapp sources into the exploded war.
+     *
+     * @return the number of copied and deleted files
+     * @throws IOException if a file can not be copied or deleted
+     */
+    public int sync() throws IOException {
+        List<Path> classes = resourceOutput != null ? List.of(compilerOutput, resourceOutput) : List.of(compilerOutput);
+        int synced = mirror(classes, explodedDirectory.resolve(CLASSES_DIR), List.of());
+        if (webappDirectory != null) {
+            synced += mirror(List.of(webappDirectory), explodedDirectory, kept);
+        }
+        return synced;
+    }
+
+    /**
+     * Copies the changed files of the source directories into the target
+     * directory, then deletes the target files found in none of them, e.g.
+     * the classes of a removed or renamed source. Nothing is deleted if the
+     * sources hold no file, so an output not built yet does not empty the
+     * target.
+     *
+     * @param sources the source directories
+     * @param target the target directory
+     * @param kept the paths, relative to the target, never deleted
+     * @return the number of copied and deleted files
+     * @throws IOException if a file can not be copied or deleted
+     */
+    static int mirror(@NotNull List<Path> sources, @NotNull Path target, @NotNull List<String> kept)
+            throws IOException {
+        Set<Path> names = new HashSet<>();
+        int synced = 0;
+        for (Path source : sources) {
+            synced += copyChanged(source, target, names);
+        }
+        if (names.isEmpty() || !Files.isDirectory(target)) {
+            return synced;
+        }
+        List<Path> removed = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(target)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Path name = target.relativize(file);
+                if (Files.isRegularFile(file) && !names.contains(name) && !isKept(name, kept)) {
+                    removed.add(file);
+                }
+            }
+        }
+        for (Path file : removed) {
+            Files.delete(file);
+        }
+        return synced + removed.size();
+    }
+
+    private static boolean isKept(Path name, List<String> kept) {
+        for (String path : kept) {
+            if (name.startsWith(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copies the files of the source directory missing or older in the
+     * target directory.
+     *
+     * @param names collects the paths of the source files, relative to the
+     * source directory
+     * @return the number of copied files
+     */
+    private static int copyChanged(Path source, Path target, Set<Path> names) throws IOException {
+        if (!Files.isDirectory(source)) {
+            return 0;
+        }
+        int copied = 0;
+        try (Stream<Path> files = Files.walk(source)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                Path name = source.relativize(file);
+                names.add(name);
+                Path targetFile = target.resolve(name.toString());
+                if (isChanged(attributes, targetFile)) {
+                    Files.createDirectories(targetFile.getParent());
+                    Files.copy(file, targetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+                    copied++;
+                }
+            }
+        }
+        return copied;
+    }
+
+    /**
+     * The modification times are compared in milliseconds, the precision
+     * kept by a copy, so an unchanged file is not copied again.
+     */
+    private static boolean isChanged(BasicFileAttributes source, Path target) throws IOException {
+        if (!Files.exists(target)) {
+            return true;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(target, BasicFileAttributes.class);
+        return attributes.size() != source.size()
+                || attributes.lastModifiedTime().toMillis() < source.lastModifiedTime().toMillis();
+    }
+}
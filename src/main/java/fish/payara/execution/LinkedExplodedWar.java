@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.io.FileUtil;
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.idea.maven.model.MavenArtifact;
+import org.jetbrains.idea.maven.model.MavenArtifactNode;
+import org.jetbrains.idea.maven.project.MavenProject;
+import org.jetbrains.idea.maven.project.MavenProjectsManager;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.logging.Level.FINE;
+
+/**
+ * Lays out the exploded war of a Maven project as links instead of the
+ * copies of {@code war:exploded}: {@code WEB-INF/classes} links to the build
+ * output directory, each runtime dependency of {@code WEB-INF/lib} to its jar
+ * in the local repository, or to the jar built by a reactor module, and the
+ * web resources to {@code src/main/webapp}.
+ * <p>
+ * The link targets and how each entry was made are recorded in a manifest
+ * next to the exploded war, so a refresh only touches the links whose target
+ * changed. A symbolic link is used when the file system allows it, then a
+ * hard link for the files, then a copy. The hard links and the copies do not
+ * follow their target, they are made again on each refresh when the target
+ * changed.
+ */
+public final class LinkedExplodedWar {
+
+    private static final Logger LOG = Logger.getLogger(LinkedExplodedWar.class.getName());
+
+    private static final String MANIFEST_SUFFIX = ".links";
+    private static final String WEB_INF = "WEB-INF";
+    private static final String CLASSES = WEB_INF + "/classes";
+    private static final String LIB = WEB_INF + "/lib";
+    private static final Set<String> RUNTIME_SCOPES = Set.of("compile", "runtime");
+    private static final String JAR_TYPE = "jar";
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * How an entry of the exploded war was made.
+     */
+    private enum Kind {
+        SYMBOLIC_LINK, HARD_LINK, COPY
+    }
+
+    private final Path explodedDirectory;
+    private final Path manifest;
+    private final Map<String, Path> links = new LinkedHashMap<>();
+
+    private LinkedExplodedWar(Path explodedDirectory) {
+        this.explodedDirectory = explodedDirectory;
+        this.manifest = explodedDirectory.resolveSibling(explodedDirectory.getFileName() + MANIFEST_SUFFIX);
+    }
+
+    /**
+     * @param project the project
+     * @param mavenProject the imported war project
+     * @return the layout of {@code target/<finalName>}
+     */
+    @NotNull
+    public static LinkedExplodedWar of(@NotNull Project project, @NotNull MavenProject mavenProject) throws IOException {
+        LinkedExplodedWar war = new LinkedExplodedWar(Path.of(mavenProject.getBuildDirectory(), mavenProject.getFinalName()));
+        war.links.put(CLASSES, Path.of(mavenProject.getOutputDirectory()));
+        MavenProjectsManager manager = MavenProjectsManager.getInstance(project);
+        Set<String> direct = getDirectDependencies(mavenProject);
+        for (MavenArtifact artifact : mavenProject.getDependencies()) {
+            if (!RUNTIME_SCOPES.contains(artifact.getScope()) || !JAR_TYPE.equals(artifact.getType())
+                    || !artifact.isResolved()) {
+                continue;
+            }
+            // the war plugin packages the optional dependencies declared by the war itself
+            if (artifact.isOptional() && !direct.contains(getKey(artifact))) {
+                continue;
+            }
+            MavenProject module = manager.findProject(artifact);
+            Path target = module != null ? getModuleJar(module) : null;
+            war.links.put(LIB + '/' + artifact.getFile().getName(),
+                    target != null && Files.isRegularFile(target) ? target : artifact.getFile().toPath());
+        }
+        Path webapp = Path.of(mavenProject.getDirectory(), ExplodedWarSync.WEBAPP_DIR);
+        if (Files.isDirectory(webapp)) {
+            try (Stream<Path> children = Files.list(webapp)) {
+                for (Path child : (Iterable<Path>) children::iterator) {
+                    String name = child.getFileName().toString();
+                    if (WEB_INF.equals(name)) {
+                        war.addWebInf(child);
+                    } else {
+                        war.links.put(name, child);
+                    }
+                }
+            }
+        }
+        return war;
+    }
+
+    /**
+     * @return the jar packaged by the reactor module, as Payara loads the
+     * classes of {@code WEB-INF/lib} from jars only
+     */
+    private static Path getModuleJar(MavenProject module) {
+        return module.getFinalName() != null
+                ? Path.of(module.getBuildDirectory(), module.getFinalName() + '.' + JAR_TYPE) : null;
+    }
+
+    private static Set<String> getDirectDependencies(MavenProject mavenProject) {
+        Set<String> direct = new HashSet<>();
+        for (MavenArtifactNode node : mavenProject.getDependencyTree()) {
+            direct.add(getKey(node.getArtifact()));
+        }
+        return direct;
+    }
+
+    private static String getKey(MavenArtifact artifact) {
+        return artifact.getGroupId() + ':' + artifact.getArtifactId() + ':' + artifact.getClassifier();
+    }
+
+    /**
+     * The descriptors of {@code src/main/webapp/WEB-INF}, its classes and lib
+     * directories are built from the project.
+     */
+    private void addWebInf(Path webInf) throws IOException {
+        try (Stream<Path> children = Files.list(webInf)) {
+            for (Path child : (Iterable<Path>) children::iterator) {
+                String name = WEB_INF + '/' + child.getFileName();
+                if (!CLASSES.equals(name) && !LIB.equals(name)) {
+                    links.put(name, child);
+                }
+            }
+        }
+    }
+
+    public Path getExplodedDirectory() {
+        return explodedDirectory;
+    }
+
+    /**
+     * Creates the missing links, replaces the ones whose target changed, makes
+     * the hard links and the copies again when their target changed and
+     * removes the ones no longer part of the war.
+     *
+     * @return the number of created or removed links
+     * @throws IOException if the layout can not be written
+     */
+    public int refresh() throws IOException {
+        Map<String, Entry> recorded = readManifest();
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        int changes = 0;
+        for (String name : recorded.keySet()) {
+            if (!links.containsKey(name)) {
+                delete(explodedDirectory.resolve(name));
+                changes++;
+            }
+        }
+        for (Map.Entry<String, Path> link : links.entrySet()) {
+            Path path = explodedDirectory.resolve(link.getKey());
+            Entry entry = recorded.get(link.getKey());
+            if (entry == null || !entry.isUpToDate(path, link.getValue())) {
+                // replaces the copy of war:exploded, the previous link or the stale copy
+                delete(path);
+                entry = new Entry(link.getValue(), link(path, link.getValue()));
+                changes++;
+            }
+            entries.put(link.getKey(), entry);
+        }
+        writeManifest(entries);
+        LOG.log(FINE, "Refreshed {0} link(s) of {1}", new Object[]{changes, explodedDirectory});
+        return changes;
+    }
+
+    private static Kind link(Path link, Path target) throws IOException {
+        Files.createDirectories(link.getParent());
+        try {
+            Files.createSymbolicLink(link, target);
+            return Kind.SYMBOLIC_LINK;
+        } catch (UnsupportedOperationException | FileSystemException ex) {
+            // e.g. Windows without the symbolic link privilege
+            LOG.log(FINE, "Symbolic link not supported for " + link, ex);
+        }
+        if (Files.isRegularFile(target)) {
+            try {
+                Files.createLink(link, target);
+                return Kind.HARD_LINK;
+            } catch (UnsupportedOperationException | FileSystemException ex) {
+                // e.g. the repository on another volume
+                LOG.log(FINE, "Hard link not supported for " + link, ex);
+            }
+            Files.copy(target, link, StandardCopyOption.COPY_ATTRIBUTES);
+        } else if (Files.isDirectory(target)) {
+            FileUtil.copyDir(target.toFile(), link.toFile());
+        }
+        return Kind.COPY;
+    }
+
+    private static void delete(Path path) throws IOException {
+        if (Files.isSymbolicLink(path) || Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS)) {
+            Files.delete(path);
+        } else if (Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+            FileUtil.delete(path);
+        }
+    }
+
+    /**
+     * A line of the manifest is the name of the entry, how it was made and its
+     * target. The lines of an older manifest without the kind are dropped, so
+     * their entries are made again.
+     */
+    private Map<String, Entry> readManifest() throws IOException {
+        Map<String, Entry> recorded = new LinkedHashMap<>();
+        if (Files.isRegularFile(manifest)) {
+            for (String line : Files.readAllLines(manifest, UTF_8)) {
+                String[] fields = line.split(SEPARATOR, 3);
+                if (fields.length < 3) {
+                    continue;
+                }
+                try {
+                    recorded.put(fields[0], new Entry(Path.of(fields[2]), Kind.valueOf(fields[1])));
+                } catch (IllegalArgumentException ex) {
+                    LOG.log(FINE, "Ignoring the manifest line " + line, ex);
+                }
+            }
+        }
+        return recorded;
+    }
+
+    private void writeManifest(Map<String, Entry> entries) throws IOException {
+        List<String> lines = entries.entrySet().stream()
+                .map(entry -> entry.getKey() + SEPARATOR + entry.getValue().kind + SEPARATOR + entry.getValue().target)
+                .toList();
+        Files.write(manifest, lines, UTF_8);
+    }
+
+    /**
+     * An entry of the exploded war as recorded in the manifest.
+     */
+    private static final class Entry {
+
+        private final Path target;
+        private final Kind kind;
+
+        private Entry(Path target, Kind kind) {
+            this.target = target;
+            this.kind = kind;
+        }
+
+        /**
+         * @return true if the entry still shows the content of the target: a
+         * symbolic link always does, a hard link as long as the target file
+         * was not replaced and a copy only if none of its files is older than
+         * the one of the target and it has no other file
+         */
+        private boolean isUpToDate(Path path, Path expectedTarget) throws IOException {
+            if (!target.equals(expectedTarget) || !Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+                return false;
+            }
+            switch (kind) {
+                case SYMBOLIC_LINK:
+                    return Files.isSymbolicLink(path);
+                case HARD_LINK:
+                    return Files.exists(target) && Files.isSameFile(path, target);
+                default:
+                    if (Files.isDirectory(target)) {
+                        return isCopyOfDirectory(path, target);
+                    }
+                    return Files.isRegularFile(target, LinkOption.NOFOLLOW_LINKS) && isCopyOf(path, target);
+            }
+        }
+
+        private static boolean isCopyOfDirectory(Path copy, Path directory) throws IOException {
+            if (!Files.isDirectory(copy, LinkOption.NOFOLLOW_LINKS)) {
+                return false;
+            }
+            long files = 0;
+            try (Stream<Path> walk = Files.walk(directory)) {
+                for (Path file : (Iterable<Path>) walk::iterator) {
+                    if (!Files.isRegularFile(file)) {
+                        continue;
+                    }
+                    Path copied = copy.resolve(directory.relativize(file).toString());
+                    if (!Files.isRegularFile(copied) || !isCopyOf(copied, file)) {
+                        return false;
+                    }
+                    files++;
+                }
+            }
+            try (Stream<Path> walk = Files.walk(copy)) {
+                return walk.filter(Files::isRegularFile).count() == files;
+            }
+        }
+
+        /**
+         * The modification times are compared in milliseconds, the precision
+         * kept by a copy.
+         */
+        private static boolean isCopyOf(Path copy, Path file) throws IOException {
+            return Files.size(copy) == Files.size(file)
+                    && Files.getLastModifiedTime(copy).toMillis() >= Files.getLastModifiedTime(file).toMillis();
+        }
+    }
+}
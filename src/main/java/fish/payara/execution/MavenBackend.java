@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+/**
+ * The executable running the Maven goals of the Payara commands.
+ */
+public enum MavenBackend {
+
+    /**
+     * A fresh {@code mvn} JVM per command.
+     */
+    MAVEN("mvn"),
+    /**
+     * The Maven Daemon {@code mvnd}, which keeps the build JVM warm between
+     * commands.
+     */
+    MAVEN_DAEMON("mvnd");
+
+    private final String executable;
+
+    MavenBackend(String executable) {
+        this.executable = executable;
+    }
+
+    public String getExecutable() {
+        return executable;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.openapi.util.JDOMUtil;
+import com.intellij.openapi.vfs.VfsUtil;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.jdom.Element;
+import org.jdom.JDOMException;
+import org.jdom.Namespace;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Detects and enables the Maven build cache extension, which restores the
+ * outputs of the unchanged modules instead of building them again. The
+ * extension is declared in the {@code .mvn} directory of the multi-module
+ * root, found the way Maven finds {@code maven.multiModuleProjectDirectory}:
+ * the first directory containing {@code .mvn}, starting from the module.
+ */
+public final class MavenBuildCache {
+
+    private static final Logger LOG = Logger.getLogger(MavenBuildCache.class.getName());
+
+    public static final String GROUP_ID = "org.apache.maven.extensions";
+    public static final String ARTIFACT_ID = "maven-build-cache-extension";
+    public static final String VERSION = "1.2.0";
+
+    private static final String MVN_DIR = ".mvn";
+    private static final String EXTENSIONS_FILE = "extensions.xml";
+    private static final String CONFIG_FILE = "maven-build-cache-config.xml";
+    private static final Namespace EXTENSIONS_NAMESPACE = Namespace.getNamespace("http://maven.apache.org/EXTENSIONS/1.1.0");
+    private static final Namespace CONFIG_NAMESPACE = Namespace.getNamespace("http://maven.apache.org/BUILD-CACHE-CONFIG/1.0.0");
+    private static final int MAX_BUILDS_CACHED = 3;
+    private static final String DEFAULT_INDENT = "    ";
+    private static final Pattern EXTENSION_INDENT = Pattern.compile("^([ \\t]*)<(?:\\w+:)?extension[\\s>]", Pattern.MULTILINE);
+
+    private MavenBuildCache() {
+    }
+
+    /**
+     * @param directory the directory of a pom.xml, the root or a module
+     * @return the first directory containing .mvn, from the directory up, or
+     * null if there is none
+     */
+    @Nullable
+    public static Path findRootDirectory(@Nullable Path directory) {
+        for (Path current = directory; current != null; current = current.getParent()) {
+            if (Files.isDirectory(current.resolve(MVN_DIR))) {
+                return current;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param directory the directory of a pom.xml, the root or a module
+     * @return true if the extension is declared in the .mvn/extensions.xml of
+     * the multi-module root
+     */
+    public static boolean isConfigured(@Nullable Path directory) {
+        Path rootDir = findRootDirectory(directory);
+        if (rootDir == null) {
+            return false;
+        }
+        Path extensions = rootDir.resolve(MVN_DIR).resolve(EXTENSIONS_FILE);
+        if (!Files.isRegularFile(extensions)) {
+            return false;
+        }
+        try {
+            return findExtension(JDOMUtil.load(extensions)) != null;
+        } catch (IOException | JDOMException ex) {
+            LOG.log(WARNING, "Unable to read " + extensions, ex);
+            return false;
+        }
+    }
+
+    /**
+     * Declares the extension in .mvn/extensions.xml of the multi-module root,
+     * or of the directory if there is none, and creates a local only cache
+     * configuration if the project has none. An existing extensions.xml is
+     * edited in place, so its comments and formatting are kept.
+     *
+     * @param baseDir the directory of the root pom.xml
+     * @throws IOException if the files can not be written
+     */
+    public static void enable(@NotNull Path baseDir) throws IOException {
+        Path rootDir = findRootDirectory(baseDir);
+        Path mvnDir = Files.createDirectories((rootDir != null ? rootDir : baseDir).resolve(MVN_DIR));
+        Path extensions = mvnDir.resolve(EXTENSIONS_FILE);
+        if (Files.isRegularFile(extensions)) {
+            Element root;
+            try {
+                root = JDOMUtil.load(extensions);
+            } catch (JDOMException ex) {
+                throw new IOException("Unable to parse " + extensions, ex);
+            }
+            if (findExtension(root) == null) {
+                String content = Files.readString(extensions, StandardCharsets.UTF_8);
+                Files.writeString(extensions, insertExtension(content, root.getQualifiedName()), StandardCharsets.UTF_8);
+            }
+        } else {
+            Namespace namespace = EXTENSIONS_NAMESPACE;
+            Element root = new Element("extensions", namespace)
+                    .addContent(new Element("extension", namespace)
+                            .addContent(new Element("groupId", namespace).setText(GROUP_ID))
+                            .addContent(new Element("artifactId", namespace).setText(ARTIFACT_ID))
+                            .addContent(new Element("version", namespace).setText(VERSION)));
+            JDOMUtil.write(root, extensions);
+        }
+        Path config = mvnDir.resolve(CONFIG_FILE);
+        if (!Files.exists(config)) {
+            Element cache = new Element("cache", CONFIG_NAMESPACE)
+                    .addContent(new Element("configuration", CONFIG_NAMESPACE)
+                            .addContent(new Element("enabled", CONFIG_NAMESPACE).setText("true"))
+                            .addContent(new Element("local", CONFIG_NAMESPACE)
+                                    .addContent(new Element("maxBuildsCached", CONFIG_NAMESPACE)
+                                            .setText(String.valueOf(MAX_BUILDS_CACHED))))
+                            .addContent(new Element("remote", CONFIG_NAMESPACE)
+                                    .setAttribute("enabled", "false")));
+            JDOMUtil.write(cache, config);
+        }
+        VfsUtil.markDirtyAndRefresh(true, true, true, mvnDir.toFile());
+    }
+
+    /**
+     * Inserts the extension element before the end of the root element,
+     * indented like the extensions already declared.
+     *
+     * @param content the extensions.xml content
+     * @param rootName the qualified name of the root element
+     * @return the content with the extension
+     * @throws IOException if the end of the root element is not found
+     */
+    static String insertExtension(String content, String rootName) throws IOException {
+        String lineSeparator = content.contains("\r\n") ? "\r\n" : "\n";
+        String indent = DEFAULT_INDENT;
+        Matcher existing = EXTENSION_INDENT.matcher(content);
+        if (existing.find() && !existing.group(1).isEmpty()) {
+            indent = existing.group(1);
+        }
+        String prefix = rootName.contains(":") ? rootName.substring(0, rootName.indexOf(':') + 1) : "";
+        String extension = indent + '<' + prefix + "extension>" + lineSeparator
+                + indent + indent + element(prefix, "groupId", GROUP_ID) + lineSeparator
+                + indent + indent + element(prefix, "artifactId", ARTIFACT_ID) + lineSeparator
+                + indent + indent + element(prefix, "version", VERSION) + lineSeparator
+                + indent + "</" + prefix + "extension>" + lineSeparator;
+        int end = content.lastIndexOf("</" + rootName);
+        if (end >= 0) {
+            int lineStart = end;
+            while (lineStart > 0 && (content.charAt(lineStart - 1) == ' ' || content.charAt(lineStart - 1) == '\t')) {
+                lineStart--;
+            }
+            if (lineStart > 0 && content.charAt(lineStart - 1) == '\n') {
+                return content.substring(0, lineStart) + extension + content.substring(lineStart);
+            }
+            return content.substring(0, end) + lineSeparator + extension + content.substring(end);
+        }
+        // <extensions/>
+        Matcher empty = Pattern.compile("<" + Pattern.quote(rootName) + "(\\s[^>]*)?/>").matcher(content);
+        if (!empty.find()) {
+            throw new IOException("Unable to find the end of the " + rootName + " element");
+        }
+        String attributes = empty.group(1) != null ? empty.group(1).stripTrailing() : "";
+        return content.substring(0, empty.start())
+                + '<' + rootName + attributes + '>' + lineSeparator + extension + "</" + rootName + '>'
+                + content.substring(empty.end());
+    }
+
+    private static String element(String prefix, String name, String text) {
+        return '<' + prefix + name + '>' + text + "</" + prefix + name + '>';
+    }
+
+    /**
+     * Reports the cache hits and misses per module in the console of the
+     * Maven build once it terminates, if the extension is configured.
+     *
+     * @param processHandler the not started Maven process handler
+     * @param directory the working directory of the build
+     */
+    public static void attach(@NotNull ProcessHandler processHandler, @Nullable Path directory) {
+        if (isConfigured(directory)) {
+            processHandler.addProcessListener(new BuildCacheReport(processHandler));
+        }
+    }
+
+    private static Element findExtension(Element root) {
+        for (Element extension : root.getChildren("extension", root.getNamespace())) {
+            if (GROUP_ID.equals(extension.getChildTextTrim("groupId", root.getNamespace()))
+                    && ARTIFACT_ID.equals(extension.getChildTextTrim("artifactId", root.getNamespace()))) {
+                return extension;
+            }
+        }
+        return null;
+    }
+}
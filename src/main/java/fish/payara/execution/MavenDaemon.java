@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.execution.ExecutionException;
+import com.intellij.execution.configurations.GeneralCommandLine;
+import com.intellij.execution.configurations.PathEnvironmentVariableUtil;
+import com.intellij.execution.process.CapturingProcessHandler;
+import com.intellij.execution.process.ProcessOutput;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.SystemInfo;
+import com.intellij.util.execution.ParametersListUtil;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.logging.Level.INFO;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Sends the Maven goals of the Payara commands to the Maven Daemon when it is
+ * the selected backend, falling back to {@code mvn} if mvnd is not installed.
+ */
+public final class MavenDaemon {
+
+    private static final Logger LOG = Logger.getLogger(MavenDaemon.class.getName());
+
+    private static final String MAVEN_PREFIX = MavenBackend.MAVEN.getExecutable() + ' ';
+    private static final int WARM_UP_TIMEOUT = (int) TimeUnit.MINUTES.toMillis(2);
+
+    private MavenDaemon() {
+    }
+
+    /**
+     * @param project the project
+     * @return the configured mvnd executable or the one on the PATH, null if
+     * not installed
+     */
+    @Nullable
+    public static String findExecutable(@NotNull Project project) {
+        String configured = PayaraExecutionSettings.getMavenDaemonPath(project);
+        if (configured != null && !configured.isBlank()) {
+            if (Files.isExecutable(Paths.get(configured))) {
+                return configured;
+            }
+            LOG.log(WARNING, "Configured mvnd {0} is not executable", configured);
+        }
+        String name = MavenBackend.MAVEN_DAEMON.getExecutable();
+        File file = PathEnvironmentVariableUtil.findInPath(SystemInfo.isWindows ? name + ".cmd" : name);
+        return file != null ? file.getAbsolutePath() : null;
+    }
+
+    /**
+     * @param project the project
+     * @return true if the daemon is selected and installed
+     */
+    public static boolean isEnabled(@NotNull Project project) {
+        return PayaraExecutionSettings.getMavenBackend(project) == MavenBackend.MAVEN_DAEMON
+                && findExecutable(project) != null;
+    }
+
+    /**
+     * Rewrites a {@code mvn} command to run the same goals on the daemon.
+     *
+     * @param project the project
+     * @param command the command line
+     * @return the mvnd command, or the unchanged command if it is not a Maven
+     * command, the daemon is not selected or not installed
+     */
+    @NotNull
+    public static String apply(@NotNull Project project, @NotNull String command) {
+        if (!command.startsWith(MAVEN_PREFIX)
+                || PayaraExecutionSettings.getMavenBackend(project) != MavenBackend.MAVEN_DAEMON) {
+            return command;
+        }
+        String executable = findExecutable(project);
+        if (executable == null) {
+            LOG.log(WARNING, "mvnd is not installed, falling back to mvn for {0}", command);
+            return command;
+        }
+        return ParametersListUtil.join(Collections.singletonList(executable))
+                + command.substring(MAVEN_PREFIX.length() - 1);
+    }
+
+    /**
+     * @param executable the executable of a command line
+     * @return true if it is the Maven Daemon client
+     */
+    public static boolean isDaemon(@NotNull String executable) {
+        String name = Paths.get(executable).getFileName().toString();
+        return name.equals(MavenBackend.MAVEN_DAEMON.getExecutable())
+                || name.startsWith(MavenBackend.MAVEN_DAEMON.getExecutable() + '.');
+    }
+
+    /**
+     * Starts a daemon for the project by running the validate phase, so the
+     * first Payara command finds the build JVM loaded. Blocks until done, the
+     * process is destroyed when the indicator is canceled.
+     *
+     * @param project the project
+     * @param directory the directory of the pom.xml
+     * @param indicator the progress indicator of the calling task
+     */
+    public static void warmUp(@NotNull Project project, @NotNull Path directory, @NotNull ProgressIndicator indicator) {
+        String executable = findExecutable(project);
+        if (executable == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            GeneralCommandLine commandLine = new GeneralCommandLine(executable, "-q", "validate")
+                    .withWorkDirectory(directory.toString())
+                    .withParentEnvironmentType(GeneralCommandLine.ParentEnvironmentType.CONSOLE);
+            ProcessOutput output = new CapturingProcessHandler(commandLine)
+                    .runProcessWithProgressIndicator(indicator, WARM_UP_TIMEOUT);
+            if (output.isCancelled()) {
+                LOG.log(INFO, "mvnd warm-up in {0} canceled", directory);
+                return;
+            }
+            LOG.log(INFO, "mvnd warm-up in {0} exited with {1} after {2} ms", new Object[]{
+                directory, output.getExitCode(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)});
+        } catch (ExecutionException ex) {
+            LOG.log(WARNING, "mvnd warm-up failed", ex);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.execution.ExecutionException;
+import com.intellij.execution.RunContentExecutor;
+import com.intellij.execution.configurations.GeneralCommandLine;
+import com.intellij.execution.configurations.PathEnvironmentVariableUtil;
+import com.intellij.execution.process.KillableColoredProcessHandler;
+import com.intellij.execution.process.ProcessEvent;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessListener;
+import com.intellij.execution.process.ProcessOutputTypes;
+import com.intellij.execution.process.ProcessTerminatedListener;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.SystemInfo;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.execution.ParametersListUtil;
+import fish.payara.PayaraBundle;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runs the Payara commands as child processes with their own console in the
+ * Run tool window. A command never terminates the running execution of its
+ * console name, it opens a numbered console next to it instead, so only an
+ * explicit stop ends an execution.
+ */
+@Service(Service.Level.PROJECT)
+public final class PayaraCommandExecutor implements Disposable {
+
+    private static final Logger LOG = Logger.getLogger(PayaraCommandExecutor.class.getName());
+
+    private final Project project;
+
+    private static final String MAVEN_PREFIX = MavenBackend.MAVEN.getExecutable() + ' ';
+
+    /**
+     * The running executions by console title.
+     */
+    private final Map<String, PayaraExecution> executions = new ConcurrentHashMap<>();
+
+    /**
+     * Duration in ms of the last successful mvn run, per goals.
+     */
+    private final Map<String, Long> mavenTimes = new ConcurrentHashMap<>();
+
+    public PayaraCommandExecutor(@NotNull Project project) {
+        this.project = project;
+    }
+
+    public static PayaraCommandExecutor getInstance(@NotNull Project project) {
+        return project.getService(PayaraCommandExecutor.class);
+    }
+
+    /**
+     * Start the command, in a new console if the previous execution of the
+     * same console is still running.
+     *
+     * @param name the console name
+     * @param command the command line, e.g. {@code mvn package}
+     * @param workingDirectory the working directory or null for the project
+     * base directory
+     * @return the started execution
+     * @throws ExecutionException if the process can not be started
+     */
+    @NotNull
+    public PayaraExecution execute(@NotNull String name, @NotNull String command, @Nullable Path workingDirectory) throws ExecutionException {
+        String resolved = MavenDaemon.apply(project, command);
+        GeneralCommandLine commandLine = createCommandLine(resolved, workingDirectory);
+        ProcessHandler processHandler = new KillableColoredProcessHandler(commandLine);
+        ProcessTerminatedListener.attach(processHandler, project);
+        PayaraExecution execution = new PayaraExecution(name, resolved, processHandler);
+        if (command.startsWith(MAVEN_PREFIX)) {
+            trackMavenTime(execution, command.substring(MAVEN_PREFIX.length()),
+                    MavenDaemon.isDaemon(commandLine.getExePath()));
+            MavenBuildCache.attach(processHandler,
+                    commandLine.getWorkDirectory() != null ? commandLine.getWorkDirectory().toPath() : null);
+        }
+        return start(execution);
+    }
+
+    /**
+     * Show the console of a process handler not backed by a command line,
+     * e.g. a Gradle Tooling API build, and start it.
+     *
+     * @param name the console name
+     * @param command the command line it stands for
+     * @param processHandler the not started process handler
+     * @return the started execution
+     */
+    @NotNull
+    public PayaraExecution execute(@NotNull String name, @NotNull String command, @NotNull ProcessHandler processHandler) {
+        ProcessTerminatedListener.attach(processHandler, project);
+        return start(new PayaraExecution(name, command, processHandler));
+    }
+
+    private PayaraExecution start(PayaraExecution execution) {
+        String title = register(execution);
+        ProcessHandler processHandler = execution.getProcessHandler();
+        execution.getExitCode().thenAccept(exitCode -> {
+            executions.remove(title, execution);
+            LOG.info(String.format("%s finished with exit code %d in %d ms", execution.getCommand(), exitCode,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - execution.getStartTime())));
+        });
+        Runnable showConsole = () -> new RunContentExecutor(project, processHandler)
+                .withTitle(title)
+                .withActivateToolWindow(true)
+                .withStop(execution::cancel, execution::isRunning)
+                .run();
+        if (ApplicationManager.getApplication().isDispatchThread()) {
+            showConsole.run();
+        } else {
+            ApplicationManager.getApplication().invokeLater(showConsole, project.getDisposed());
+        }
+        return execution;
+    }
+
+    /**
+     * @return the console title of the execution, its name or the name
+     * numbered after the consoles still running
+     */
+    private String register(PayaraExecution execution) {
+        String title = execution.getName();
+        for (int index = 2;; index++) {
+            PayaraExecution previous = executions.putIfAbsent(title, execution);
+            if (previous == null || (!previous.isRunning() && executions.replace(title, previous, execution))) {
+                return title;
+            }
+            title = execution.getName() + " (" + index + ')';
+        }
+    }
+
+    /**
+     * Start the command in the directory of the build file.
+     *
+     * @param name the console name
+     * @param command the command line
+     * @param buildFile the pom.xml or build.gradle of the project
+     * @return the started execution
+     * @throws ExecutionException if the process can not be started
+     */
+    @NotNull
+    public PayaraExecution execute(@NotNull String name, @NotNull String command, @Nullable PsiFile buildFile) throws ExecutionException {
+        VirtualFile file = buildFile != null ? buildFile.getVirtualFile() : null;
+        VirtualFile directory = file != null ? file.getParent() : null;
+        return execute(name, command, directory != null && directory.isInLocalFileSystem() ? directory.toNioPath() : null);
+    }
+
+    /**
+     * @param name the console name
+     * @return the running execution of the console or null, not the ones of
+     * the numbered consoles opened next to it
+     */
+    @Nullable
+    public PayaraExecution getExecution(@NotNull String name) {
+        PayaraExecution execution = executions.get(name);
+        return execution != null && execution.isRunning() ? execution : null;
+    }
+
+    /**
+     * Records the duration of the successful mvn runs per goals and reports
+     * the time saved by the daemon runs of the same goals in their console.
+     */
+    private void trackMavenTime(PayaraExecution execution, String goals, boolean daemon) {
+        ProcessHandler processHandler = execution.getProcessHandler();
+        processHandler.addProcessListener(new ProcessListener() {
+            @Override
+            public void processTerminated(@NotNull ProcessEvent event) {
+                if (event.getExitCode() != 0) {
+                    return;
+                }
+                long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - execution.getStartTime());
+                if (!daemon) {
+                    mavenTimes.put(goals, duration);
+                    return;
+                }
+                Long mavenTime = mavenTimes.get(goals);
+                String message = mavenTime != null
+                        ? PayaraBundle.message("PayaraCommandExecutor.mvnd.saved", duration, mavenTime, mavenTime - duration)
+                        : PayaraBundle.message("PayaraCommandExecutor.mvnd.duration", duration);
+                LOG.info(message + ": " + goals);
+                processHandler.notifyTextAvailable(message + '\n', ProcessOutputTypes.SYSTEM);
+            }
+        });
+    }
+
+    private GeneralCommandLine createCommandLine(String command, Path workingDirectory) throws ExecutionException {
+        List<String> arguments = ParametersListUtil.parse(command, false, true);
+        if (arguments.isEmpty()) {
+            throw new ExecutionException("Empty command");
+        }
+        String executable = arguments.get(0);
+        if (SystemInfo.isWindows) {
+            // mvn and gradle are batch scripts on Windows
+            executable = PathEnvironmentVariableUtil.findExecutableInWindowsPath(executable);
+        }
+        String directory = workingDirectory != null ? workingDirectory.toString() : project.getBasePath();
+        return new GeneralCommandLine(executable)
+                .withParameters(arguments.subList(1, arguments.size()))
+                .withWorkDirectory(directory)
+                .withParentEnvironmentType(GeneralCommandLine.ParentEnvironmentType.CONSOLE)
+                .withCharset(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void dispose() {
+        executions.values().forEach(PayaraExecution::cancel);
+        executions.clear();
+    }
+}
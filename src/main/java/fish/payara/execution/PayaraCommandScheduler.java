@@ -0,0 +1,477 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.execution.ExecutionException;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import com.intellij.util.messages.Topic;
+import fish.payara.execution.ScheduledCommand.Operation;
+import fish.payara.execution.ScheduledCommand.State;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * Serializes the start, stop, reload and bundle operations of a project, so
+ * repeated clicks never run overlapping builds:
+ * <ul>
+ * <li>one operation runs at a time, the others wait in the queue; a blocking
+ * operation, e.g. start, releases the queue once its ready line is printed,
+ * it terminates or {@link #READY_TIMEOUT} minutes passed</li>
+ * <li>a reload or bundle already queued absorbs the new one</li>
+ * <li>a queued start or reload is cancelled when superseded by a new start or
+ * stop</li>
+ * <li>the build commands queued one after the other are fused into a single
+ * build tool invocation when they can, e.g. a stop followed by a start</li>
+ * <li>an operation completed by the IDE between its build and its command,
+ * e.g. the links of an exploded war refreshed from the compiled classes, runs
+ * its command apart once the build succeeded</li>
+ * </ul>
+ * The queue is observable through the {@link #TOPIC} of the project message
+ * bus.
+ */
+@Service(Service.Level.PROJECT)
+public final class PayaraCommandScheduler implements Disposable {
+
+    private static final Logger LOG = Logger.getLogger(PayaraCommandScheduler.class.getName());
+
+    public static final Topic<Listener> TOPIC = Topic.create("Payara commands", Listener.class);
+
+    /**
+     * The exit code reported for a command whose starter returned no
+     * execution, e.g. one answered in the IDE.
+     */
+    public static final int NO_EXIT_CODE = Integer.MIN_VALUE;
+
+    /**
+     * The exit code reported for a command whose starter failed.
+     */
+    public static final int START_FAILED = -1;
+
+    /**
+     * Minutes a blocking operation holds the queue at most while it builds
+     * and boots.
+     */
+    public static final int READY_TIMEOUT = 5;
+
+    private static final Set<Operation> COLLAPSIBLE = EnumSet.of(Operation.RELOAD, Operation.BUNDLE);
+
+    private final Project project;
+
+    private final Object lock = new Object();
+
+    private final Deque<ScheduledCommand> queue = new ArrayDeque<>();
+
+    private ScheduledCommand active;
+
+    public PayaraCommandScheduler(@NotNull Project project) {
+        this.project = project;
+    }
+
+    public static PayaraCommandScheduler getInstance(@NotNull Project project) {
+        return project.getService(PayaraCommandScheduler.class);
+    }
+
+    /**
+     * Starts the execution of a scheduled command.
+     */
+    @FunctionalInterface
+    public interface Starter {
+
+        /**
+         * @return the started execution, null if not backed by a process
+         * @throws ExecutionException if the command could not be started
+         */
+        @Nullable
+        PayaraExecution start() throws ExecutionException;
+    }
+
+    /**
+     * Starts the execution of a scheduled build command.
+     */
+    @FunctionalInterface
+    public interface BuildStarter {
+
+        /**
+         * @param command the scheduled build command, or its fusion with the
+         * build commands queued right after it
+         * @return the started execution, null if not backed by a process
+         * @throws ExecutionException if the command could not be started
+         */
+        @Nullable
+        PayaraExecution start(@NotNull BuildCommand command) throws ExecutionException;
+    }
+
+    /**
+     * Notified on the changes of the queue, from any thread.
+     */
+    public interface Listener {
+
+        default void commandQueued(@NotNull ScheduledCommand command) {
+        }
+
+        default void commandStarted(@NotNull ScheduledCommand command) {
+        }
+
+        /**
+         * @param command the command
+         * @param exitCode the exit code of the process, {@link #NO_EXIT_CODE}
+         * if not backed by a process or {@link #START_FAILED}
+         */
+        default void commandFinished(@NotNull ScheduledCommand command, int exitCode) {
+        }
+
+        default void commandCancelled(@NotNull ScheduledCommand command) {
+        }
+    }
+
+    /**
+     * Schedules an operation not run by the build command itself, e.g. a
+     * HotSwap, so it is never fused with the other commands.
+     *
+     * @param operation the operation
+     * @param name the console name
+     * @param command the build command the operation stands for
+     * @param starter starts the operation when its turn comes
+     * @return the scheduled command, or the already queued one it was
+     * collapsed into
+     */
+    @NotNull
+    public ScheduledCommand schedule(@NotNull Operation operation, @NotNull String name,
+            @NotNull BuildCommand command, @NotNull Starter starter) {
+        return schedule(new ScheduledCommand(operation, name, command, ignored -> starter.start(), false, null));
+    }
+
+    /**
+     * Schedules a build command, fused with the build commands queued right
+     * before or after it when they can run as a single invocation. The
+     * fusion is started by the starter of its last command, in the console
+     * of that command.
+     *
+     * @param operation the operation
+     * @param name the console name
+     * @param command the build command
+     * @param starter starts the command, or its fusion, when its turn comes
+     * @return the scheduled command, or the already queued one it was
+     * collapsed into
+     */
+    @NotNull
+    public ScheduledCommand scheduleBuild(@NotNull Operation operation, @NotNull String name,
+            @NotNull BuildCommand command, @NotNull BuildStarter starter) {
+        return scheduleBuild(operation, name, command, null, starter);
+    }
+
+    /**
+     * @param operation the operation
+     * @param name the console name
+     * @param command the build command
+     * @param readyLine matches the output line printed once a blocking
+     * command is ready, e.g. the instance started, null to release the queue
+     * as soon as it is launched
+     * @param starter starts the command, or its fusion, when its turn comes
+     * @return the scheduled command, or the already queued one it was
+     * collapsed into
+     * @see #scheduleBuild(Operation, String, BuildCommand, BuildStarter)
+     */
+    @NotNull
+    public ScheduledCommand scheduleBuild(@NotNull Operation operation, @NotNull String name,
+            @NotNull BuildCommand command, @Nullable Predicate<String> readyLine, @NotNull BuildStarter starter) {
+        return schedule(new ScheduledCommand(operation, name, command, starter, true, readyLine));
+    }
+
+    /**
+     * Schedules a build command depending on the IDE work done after a
+     * build: the build runs first, fused with the build commands queued right
+     * before it, then the work after it and, if the build succeeded, the
+     * command in its own invocation, started by the same starter.
+     *
+     * @param operation the operation
+     * @param name the console name
+     * @param build the build
+     * @param afterBuild run off the EDT once the build succeeded
+     * @param command the build command run after it
+     * @param readyLine see {@link #scheduleBuild(Operation, String, BuildCommand, Predicate, BuildStarter)}
+     * @param starter starts the build, or its fusion, then the command
+     * @return the scheduled command, or the already queued one it was
+     * collapsed into
+     */
+    @NotNull
+    public ScheduledCommand scheduleBuild(@NotNull Operation operation, @NotNull String name,
+            @NotNull BuildCommand build, @NotNull Runnable afterBuild, @NotNull BuildCommand command,
+            @Nullable Predicate<String> readyLine, @NotNull BuildStarter starter) {
+        return schedule(new ScheduledCommand(operation, name, build, afterBuild, command, starter, true, readyLine));
+    }
+
+    private ScheduledCommand schedule(ScheduledCommand scheduled) {
+        Operation operation = scheduled.getOperation();
+        String name = scheduled.getName();
+        List<ScheduledCommand> superseded = new ArrayList<>();
+        synchronized (lock) {
+            if (COLLAPSIBLE.contains(operation)) {
+                for (ScheduledCommand queued : queue) {
+                    if (queued.getOperation() == operation && queued.getName().equals(name)) {
+                        return queued;
+                    }
+                }
+            }
+            if (operation == Operation.START || operation == Operation.STOP) {
+                for (Iterator<ScheduledCommand> it = queue.iterator(); it.hasNext();) {
+                    ScheduledCommand queued = it.next();
+                    if (queued.getOperation() == Operation.START || queued.getOperation() == Operation.RELOAD) {
+                        it.remove();
+                        superseded.add(queued);
+                    }
+                }
+            }
+            queue.add(scheduled);
+        }
+        superseded.forEach(this::cancelled);
+        fire(listener -> listener.commandQueued(scheduled));
+        drain();
+        return scheduled;
+    }
+
+    /**
+     * Removes a queued command, a running one is not affected.
+     *
+     * @param command the scheduled command
+     * @return true if it was still queued
+     */
+    public boolean cancel(@NotNull ScheduledCommand command) {
+        boolean removed;
+        synchronized (lock) {
+            removed = queue.remove(command);
+        }
+        if (removed) {
+            cancelled(command);
+        }
+        return removed;
+    }
+
+    /**
+     * @return the running operation followed by the queued ones
+     */
+    @NotNull
+    public List<ScheduledCommand> getQueue() {
+        synchronized (lock) {
+            List<ScheduledCommand> commands = new ArrayList<>();
+            if (active != null) {
+                commands.add(active);
+            }
+            commands.addAll(queue);
+            return commands;
+        }
+    }
+
+    private void drain() {
+        List<ScheduledCommand> batch;
+        synchronized (lock) {
+            if (active != null || queue.isEmpty() || project.isDisposed()) {
+                return;
+            }
+            batch = pollBatch(queue);
+            active = batch.get(batch.size() - 1);
+        }
+        // the starters may use the Terminal and the Run tool windows
+        ApplicationManager.getApplication().invokeLater(() -> start(batch), project.getDisposed());
+    }
+
+    /**
+     * @param queue the queued commands
+     * @return the head of the queue, followed by the build commands queued
+     * right after it that can be fused with it, all removed from the queue;
+     * a command with a build ends the batch, its command runs apart
+     */
+    static List<ScheduledCommand> pollBatch(Deque<ScheduledCommand> queue) {
+        List<ScheduledCommand> batch = new ArrayList<>();
+        ScheduledCommand last = queue.poll();
+        batch.add(last);
+        BuildCommand fused = last.getLeadingCommand();
+        while (last.isFusible() && last.getBuild() == null && !queue.isEmpty() && queue.peek().isFusible()
+                && fused.canFuse(queue.peek().getLeadingCommand())) {
+            last = queue.poll();
+            fused = fused.then(last.getLeadingCommand());
+            batch.add(last);
+        }
+        return batch;
+    }
+
+    /**
+     * @param batch the commands polled together
+     * @return the single invocation running them all, up to the build of the
+     * last one if it has one
+     */
+    static BuildCommand fuse(List<ScheduledCommand> batch) {
+        BuildCommand fused = batch.get(0).getLeadingCommand();
+        for (ScheduledCommand command : batch.subList(1, batch.size())) {
+            fused = fused.then(command.getLeadingCommand());
+        }
+        return fused;
+    }
+
+    /**
+     * Starts the batch with the starter of its last command, all its
+     * commands share the execution.
+     */
+    private void start(List<ScheduledCommand> batch) {
+        ScheduledCommand last = batch.get(batch.size() - 1);
+        BuildCommand command = fuse(batch);
+        if (batch.size() > 1) {
+            LOG.info(String.format("Fused %d queued commands into %s", batch.size(), command));
+        }
+        PayaraExecution execution = launch(batch, command);
+        if (execution == null) {
+            return;
+        }
+        if (last.getBuild() != null) {
+            execution.getExitCode().thenAccept(exitCode -> built(batch, exitCode));
+            return;
+        }
+        await(batch, command, execution);
+    }
+
+    /**
+     * Runs the work after the build of the last command of the batch, then
+     * its command, unless the build failed.
+     */
+    private void built(List<ScheduledCommand> batch, int exitCode) {
+        ScheduledCommand last = batch.get(batch.size() - 1);
+        if (exitCode != 0) {
+            batch.forEach(scheduled -> finished(scheduled, State.FINISHED, exitCode));
+            return;
+        }
+        batch.subList(0, batch.size() - 1).forEach(scheduled -> finished(scheduled, State.FINISHED, exitCode));
+        try {
+            last.getAfterBuild().run();
+        } catch (RuntimeException ex) {
+            LOG.log(SEVERE, last.getBuild().toString(), ex);
+        }
+        ApplicationManager.getApplication().invokeLater(() -> {
+            PayaraExecution execution = launch(List.of(last), last.getCommand());
+            if (execution != null) {
+                await(List.of(last), last.getCommand(), execution);
+            }
+        }, project.getDisposed());
+    }
+
+    /**
+     * @return the started execution, null if the batch is already finished
+     * as it failed to start or is not backed by a process
+     */
+    @Nullable
+    private PayaraExecution launch(List<ScheduledCommand> batch, BuildCommand command) {
+        ScheduledCommand last = batch.get(batch.size() - 1);
+        PayaraExecution execution;
+        try {
+            execution = last.getStarter().start(command);
+        } catch (ExecutionException | RuntimeException ex) {
+            LOG.log(SEVERE, command.toString(), ex);
+            batch.forEach(scheduled -> finished(scheduled, State.FAILED, START_FAILED));
+            return null;
+        }
+        for (ScheduledCommand scheduled : batch) {
+            scheduled.setExecution(execution);
+            if (scheduled.getState() != State.RUNNING) {
+                // the command after a build is still the same running operation
+                scheduled.setState(State.RUNNING);
+                fire(listener -> listener.commandStarted(scheduled));
+            }
+        }
+        if (execution == null) {
+            batch.forEach(scheduled -> finished(scheduled, State.DETACHED, NO_EXIT_CODE));
+        }
+        return execution;
+    }
+
+    /**
+     * Finishes the batch when its execution terminates and releases the
+     * queue, as soon as its ready line is printed if it is blocking.
+     */
+    private void await(List<ScheduledCommand> batch, BuildCommand command, PayaraExecution execution) {
+        ScheduledCommand last = batch.get(batch.size() - 1);
+        execution.getExitCode().thenAccept(exitCode
+                -> batch.forEach(scheduled -> finished(scheduled, State.FINISHED, exitCode)));
+        if (command.isBlocking()) {
+            // runs until stopped, the next operations only wait for its build and boot
+            Predicate<String> readyLine = last.getReadyLine();
+            if (readyLine == null) {
+                release(last);
+                return;
+            }
+            execution.awaitOutput(readyLine)
+                    .orTimeout(READY_TIMEOUT, TimeUnit.MINUTES)
+                    .whenComplete((line, error) -> {
+                        if (error instanceof TimeoutException) {
+                            LOG.warning(String.format("%s not ready after %d minutes", command, READY_TIMEOUT));
+                        }
+                        release(last);
+                    });
+        }
+    }
+
+    private void finished(ScheduledCommand command, State state, int exitCode) {
+        command.setState(state);
+        fire(listener -> listener.commandFinished(command, exitCode));
+        release(command);
+    }
+
+    private void release(ScheduledCommand command) {
+        synchronized (lock) {
+            if (active != command) {
+                return;
+            }
+            active = null;
+        }
+        drain();
+    }
+
+    private void cancelled(ScheduledCommand command) {
+        command.setState(State.CANCELLED);
+        fire(listener -> listener.commandCancelled(command));
+    }
+
+    private void fire(Consumer<Listener> event) {
+        if (!project.isDisposed()) {
+            event.accept(project.getMessageBus().syncPublisher(TOPIC));
+        }
+    }
+
+    @Override
+    public void dispose() {
+        synchronized (lock) {
+            queue.forEach(command -> command.setState(State.CANCELLED));
+            queue.clear();
+            active = null;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.execution.process.ProcessEvent;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessListener;
+import com.intellij.execution.process.ProcessOutputType;
+import com.intellij.openapi.util.Key;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A running Payara command: tracks the process lifecycle, exposes its exit
+ * code and streams its output line by line.
+ */
+public final class PayaraExecution {
+
+    private final String name;
+    private final String command;
+    private final ProcessHandler processHandler;
+    private final long startTime = System.nanoTime();
+    private final CompletableFuture<Integer> exitCode = new CompletableFuture<>();
+    private final List<Consumer<String>> lineListeners = new CopyOnWriteArrayList<>();
+    private final Map<Key<?>, StringBuilder> buffers = new ConcurrentHashMap<>();
+
+    PayaraExecution(String name, String command, ProcessHandler processHandler) {
+        this.name = name;
+        this.command = command;
+        this.processHandler = processHandler;
+        processHandler.addProcessListener(new ProcessListener() {
+            @Override
+            public void onTextAvailable(@NotNull ProcessEvent event, @NotNull Key outputType) {
+                if (!ProcessOutputType.isStdout(outputType) && !ProcessOutputType.isStderr(outputType)) {
+                    return;
+                }
+                StringBuilder buffer = buffers.computeIfAbsent(outputType, key -> new StringBuilder());
+                synchronized (buffer) {
+                    buffer.append(event.getText());
+                    int end;
+                    while ((end = buffer.indexOf("\n")) >= 0) {
+                        fireLine(buffer.substring(0, end).replace("\r", ""));
+                        buffer.delete(0, end + 1);
+                    }
+                }
+            }
+
+            @Override
+            public void processTerminated(@NotNull ProcessEvent event) {
+                buffers.values().forEach(buffer -> {
+                    synchronized (buffer) {
+                        if (buffer.length() > 0) {
+                            fireLine(buffer.toString());
+                            buffer.setLength(0);
+                        }
+                    }
+                });
+                exitCode.complete(event.getExitCode());
+            }
+        });
+    }
+
+    private void fireLine(String line) {
+        for (Consumer<String> listener : lineListeners) {
+            listener.accept(line);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    public ProcessHandler getProcessHandler() {
+        return processHandler;
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} of the process start
+     */
+    public long getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * @return completed with the exit code when the process terminates
+     */
+    public CompletableFuture<Integer> getExitCode() {
+        return exitCode;
+    }
+
+    public boolean isRunning() {
+        return !processHandler.isProcessTerminated();
+    }
+
+    /**
+     * @param listener notified of every stdout and stderr line
+     */
+    public void addLineListener(Consumer<String> listener) {
+        lineListeners.add(listener);
+    }
+
+    /**
+     * @param matcher the expected output line
+     * @return completed with the first matching line, or cancelled if the
+     * process terminates before
+     */
+    public CompletableFuture<String> awaitOutput(Predicate<String> matcher) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        Consumer<String> listener = line -> {
+            if (!result.isDone() && matcher.test(line)) {
+                result.complete(line);
+            }
+        };
+        addLineListener(listener);
+        exitCode.whenComplete((code, error) -> result.cancel(false));
+        result.whenComplete((line, error) -> lineListeners.remove(listener));
+        return result;
+    }
+
+    /**
+     * Asks the process to terminate, its exit code is still reported.
+     */
+    public void cancel() {
+        if (isRunning()) {
+            processHandler.destroyProcess();
+        }
+    }
+}
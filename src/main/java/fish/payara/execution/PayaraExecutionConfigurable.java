@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.openapi.fileChooser.FileChooserDescriptorFactory;
+import com.intellij.openapi.options.Configurable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.TextFieldWithBrowseButton;
+import com.intellij.util.ui.FormBuilder;
+import fish.payara.PayaraBundle;
+import java.util.Objects;
+import javax.swing.JComponent;
+import javax.swing.JPanel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The Payara page of the project settings, for the execution settings that
+ * are not a toggle action.
+ */
+public class PayaraExecutionConfigurable implements Configurable {
+
+    private final Project project;
+
+    private TextFieldWithBrowseButton mavenDaemonPathField;
+
+    public PayaraExecutionConfigurable(@NotNull Project project) {
+        this.project = project;
+    }
+
+    @Override
+    public String getDisplayName() {
+        return PayaraBundle.message("PayaraExecutionConfigurable.displayName");
+    }
+
+    @Nullable
+    @Override
+    public JComponent createComponent() {
+        mavenDaemonPathField = new TextFieldWithBrowseButton();
+        mavenDaemonPathField.addBrowseFolderListener(PayaraBundle.message("PayaraExecutionConfigurable.mvnd.browse"), null, project,
+                FileChooserDescriptorFactory.createSingleFileNoJarsDescriptor());
+        JPanel panel = FormBuilder.createFormBuilder()
+                .addLabeledComponent(PayaraBundle.message("PayaraExecutionConfigurable.mvnd.path"), mavenDaemonPathField)
+                .addTooltip(PayaraBundle.message("PayaraExecutionConfigurable.mvnd.tooltip"))
+                .addComponentFillVertically(new JPanel(), 0)
+                .getPanel();
+        reset();
+        return panel;
+    }
+
+    @Override
+    public boolean isModified() {
+        return !Objects.equals(getMavenDaemonPath(), PayaraExecutionSettings.getMavenDaemonPath(project));
+    }
+
+    @Override
+    public void apply() {
+        PayaraExecutionSettings.setMavenDaemonPath(project, getMavenDaemonPath());
+    }
+
+    @Override
+    public void reset() {
+        String path = PayaraExecutionSettings.getMavenDaemonPath(project);
+        mavenDaemonPathField.setText(path != null ? path : "");
+    }
+
+    /**
+     * @return the entered mvnd executable, null to look it up on the PATH
+     */
+    @Nullable
+    private String getMavenDaemonPath() {
+        String path = mavenDaemonPathField.getText().trim();
+        return path.isEmpty() ? null : path;
+    }
+
+    @Override
+    public void disposeUIResources() {
+        mavenDaemonPathField = null;
+    }
+}
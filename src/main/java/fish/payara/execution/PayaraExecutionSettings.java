@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.ide.util.PropertiesComponent;
+import com.intellij.openapi.project.Project;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Project level execution settings of the Payara commands.
+ */
+public final class PayaraExecutionSettings {
+
+    private static final String USE_TERMINAL = "fish.payara.execution.terminal";
+    private static final String IN_PROCESS = "fish.payara.execution.inProcess";
+    private static final String EXECUTION_PROFILE = "fish.payara.execution.profile";
+    private static final String MAVEN_BACKEND = "fish.payara.execution.maven.backend";
+    private static final String MAVEN_DAEMON_PATH = "fish.payara.execution.mvnd.path";
+    private static final String WATCH = "fish.payara.execution.watch";
+    private static final String LINKED_LAYOUT = "fish.payara.execution.linkedLayout";
+
+    private PayaraExecutionSettings() {
+    }
+
+    /**
+     * @param project the project
+     * @return true to type the commands into the Terminal tool window instead
+     * of running them with their own console
+     */
+    public static boolean isTerminalEnabled(@NotNull Project project) {
+        return PropertiesComponent.getInstance(project).getBoolean(USE_TERMINAL, false);
+    }
+
+    public static void setTerminalEnabled(@NotNull Project project, boolean enabled) {
+        PropertiesComponent.getInstance(project).setValue(USE_TERMINAL, enabled, false);
+    }
+
+    /**
+     * @param project the project
+     * @return true to answer the short goals, e.g. the Cloud listings and the
+     * Micro stop, in the IDE instead of running Maven, disabled by default
+     */
+    public static boolean isInProcessEnabled(@NotNull Project project) {
+        return PropertiesComponent.getInstance(project).getBoolean(IN_PROCESS, false);
+    }
+
+    public static void setInProcessEnabled(@NotNull Project project, boolean enabled) {
+        PropertiesComponent.getInstance(project).setValue(IN_PROCESS, enabled, false);
+    }
+
+    /**
+     * @param project the project
+     * @return the backend running the Maven goals
+     */
+    @NotNull
+    public static MavenBackend getMavenBackend(@NotNull Project project) {
+        String value = PropertiesComponent.getInstance(project).getValue(MAVEN_BACKEND, MavenBackend.MAVEN.name());
+        try {
+            return MavenBackend.valueOf(value);
+        } catch (IllegalArgumentException ex) {
+            return MavenBackend.MAVEN;
+        }
+    }
+
+    public static void setMavenBackend(@NotNull Project project, @NotNull MavenBackend backend) {
+        PropertiesComponent.getInstance(project).setValue(MAVEN_BACKEND, backend.name(), MavenBackend.MAVEN.name());
+    }
+
+    /**
+     * @param project the project
+     * @return the configured mvnd executable, null to look it up on the PATH
+     */
+    @Nullable
+    public static String getMavenDaemonPath(@NotNull Project project) {
+        return PropertiesComponent.getInstance(project).getValue(MAVEN_DAEMON_PATH);
+    }
+
+    public static void setMavenDaemonPath(@NotNull Project project, @Nullable String path) {
+        PropertiesComponent.getInstance(project).setValue(MAVEN_DAEMON_PATH, path);
+    }
+
+    /**
+     * @param project the project
+     * @return the profile applied to the Payara commands
+     */
+    @NotNull
+    public static ExecutionProfile getExecutionProfile(@NotNull Project project) {
+        String value = PropertiesComponent.getInstance(project).getValue(EXECUTION_PROFILE, ExecutionProfile.DEFAULT.name());
+        try {
+            return ExecutionProfile.valueOf(value);
+        } catch (IllegalArgumentException ex) {
+            return ExecutionProfile.DEFAULT;
+        }
+    }
+
+    public static void setExecutionProfile(@NotNull Project project, @NotNull ExecutionProfile profile) {
+        PropertiesComponent.getInstance(project).setValue(EXECUTION_PROFILE, profile.name(), ExecutionProfile.DEFAULT.name());
+    }
+
+    /**
+     * @param project the project
+     * @return true to reload the exploded Micro application when its sources
+     * are saved
+     */
+    public static boolean isWatchEnabled(@NotNull Project project) {
+        return PropertiesComponent.getInstance(project).getBoolean(WATCH, false);
+    }
+
+    public static void setWatchEnabled(@NotNull Project project, boolean enabled) {
+        PropertiesComponent.getInstance(project).setValue(WATCH, enabled, false);
+    }
+
+    /**
+     * @param project the project
+     * @return true to lay out the exploded war of the Maven projects as links
+     * instead of running war:exploded
+     */
+    public static boolean isLinkedLayoutEnabled(@NotNull Project project) {
+        return PropertiesComponent.getInstance(project).getBoolean(LINKED_LAYOUT, false);
+    }
+
+    public static void setLinkedLayoutEnabled(@NotNull Project project, boolean enabled) {
+        PropertiesComponent.getInstance(project).setValue(LINKED_LAYOUT, enabled, false);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import java.util.function.Predicate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An operation submitted to the {@link PayaraCommandScheduler}.
+ */
+public final class ScheduledCommand {
+
+    public enum Operation {
+        START,
+        STOP,
+        RELOAD,
+        BUNDLE
+    }
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        FINISHED,
+        /**
+         * Started without a process to wait for, so there is no exit code.
+         */
+        DETACHED,
+        /**
+         * The starter failed, nothing runs.
+         */
+        FAILED,
+        CANCELLED
+    }
+
+    private final Operation operation;
+    private final String name;
+    private final BuildCommand command;
+    private final PayaraCommandScheduler.BuildStarter starter;
+    private final boolean fusible;
+    private final Predicate<String> readyLine;
+    private final BuildCommand build;
+    private final Runnable afterBuild;
+    private volatile State state = State.QUEUED;
+    private volatile PayaraExecution execution;
+
+    ScheduledCommand(@NotNull Operation operation, @NotNull String name, @NotNull BuildCommand command,
+            @NotNull PayaraCommandScheduler.BuildStarter starter, boolean fusible, @Nullable Predicate<String> readyLine) {
+        this(operation, name, null, null, command, starter, fusible, readyLine);
+    }
+
+    ScheduledCommand(@NotNull Operation operation, @NotNull String name, @Nullable BuildCommand build,
+            @Nullable Runnable afterBuild, @NotNull BuildCommand command, @NotNull PayaraCommandScheduler.BuildStarter starter,
+            boolean fusible, @Nullable Predicate<String> readyLine) {
+        this.operation = operation;
+        this.name = name;
+        this.build = build;
+        this.afterBuild = afterBuild;
+        this.command = command;
+        this.starter = starter;
+        this.fusible = fusible;
+        this.readyLine = readyLine;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return the console name
+     */
+    public String getName() {
+        return name;
+    }
+
+    public BuildCommand getCommand() {
+        return command;
+    }
+
+    /**
+     * @return the build run in its own invocation before the command, null
+     * if the command builds what it needs
+     */
+    @Nullable
+    public BuildCommand getBuild() {
+        return build;
+    }
+
+    /**
+     * @return run off the EDT once the build succeeded, before the command
+     * starts
+     */
+    @Nullable
+    Runnable getAfterBuild() {
+        return afterBuild;
+    }
+
+    /**
+     * @return the build if any, else the command, i.e. what the commands
+     * queued before can be fused with
+     */
+    BuildCommand getLeadingCommand() {
+        return build != null ? build : command;
+    }
+
+    PayaraCommandScheduler.BuildStarter getStarter() {
+        return starter;
+    }
+
+    /**
+     * @return true if run by its build command, so it can be fused with the
+     * build commands queued next to it
+     */
+    public boolean isFusible() {
+        return fusible;
+    }
+
+    /**
+     * @return matches the output line printed once the blocking command is
+     * ready, null if it releases the queue as soon as it is launched
+     */
+    @Nullable
+    Predicate<String> getReadyLine() {
+        return readyLine;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    void setState(State state) {
+        this.state = state;
+    }
+
+    /**
+     * @return the execution once started, null if queued or not backed by a
+     * process
+     */
+    @Nullable
+    public PayaraExecution getExecution() {
+        return execution;
+    }
+
+    void setExecution(PayaraExecution execution) {
+        this.execution = execution;
+    }
+
+    @Override
+    public String toString() {
+        return operation + " " + command;
+    }
+}
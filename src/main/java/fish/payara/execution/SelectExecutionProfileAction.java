@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.popup.JBPopupFactory;
+import fish.payara.PayaraBundle;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Chooses the execution profile applied to the Payara commands.
+ */
+public class SelectExecutionProfileAction extends AnAction {
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        e.getPresentation().setEnabled(project != null);
+        if (project != null) {
+            e.getPresentation().setDescription(PayaraBundle.message("SelectExecutionProfileAction.description",
+                    PayaraExecutionSettings.getExecutionProfile(project).getDisplayName()));
+        }
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) {
+            return;
+        }
+        JBPopupFactory.getInstance()
+                .createPopupChooserBuilder(List.of(ExecutionProfile.values()))
+                .setTitle(PayaraBundle.message("SelectExecutionProfileAction.title"))
+                .setSelectedValue(PayaraExecutionSettings.getExecutionProfile(project), true)
+                .setItemChosenCallback(profile -> PayaraExecutionSettings.setExecutionProfile(project, profile))
+                .createPopup()
+                .showCenteredInCurrentWindow(project);
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
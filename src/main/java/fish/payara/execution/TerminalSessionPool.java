@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Disposer;
+import com.intellij.openapi.wm.IdeFocusManager;
+import com.intellij.terminal.ui.TerminalWidget;
+import com.intellij.util.concurrency.EdtExecutorService;
+import fish.payara.cloud.PayaraCloudProject;
+import fish.payara.micro.PayaraMicroProject;
+import fish.payara.project.PayaraProjectService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.plugins.terminal.TerminalToolWindowManager;
+
+import static java.util.logging.Level.FINE;
+import static java.util.logging.Level.SEVERE;
+
+/**
+ * The Terminal sessions of the Payara commands, one per tab name. The
+ * sessions of the detected Payara projects are started ahead in the
+ * background, so the first command does not wait for the shell, and a
+ * session is only handed out once its shell is connected.
+ * <p>
+ * The commands typed into a tab are not run by the
+ * {@link PayaraCommandScheduler}, so the sends are serialized per tab here: a
+ * command waits for the previous send of its tab, and a command already
+ * waiting to be sent to the tab absorbs the same one.
+ */
+@Service(Service.Level.PROJECT)
+public final class TerminalSessionPool {
+
+    private static final Logger LOG = Logger.getLogger(TerminalSessionPool.class.getName());
+
+    private static final String INSTANCE_SUFFIX = " instance";
+
+    private final Project project;
+
+    private final Map<String, CompletableFuture<TerminalWidget>> sessions = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+
+    private final Map<String, PendingSend> pending = new HashMap<>();
+
+    public TerminalSessionPool(@NotNull Project project) {
+        this.project = project;
+    }
+
+    public static TerminalSessionPool getInstance(@NotNull Project project) {
+        return project.getService(TerminalSessionPool.class);
+    }
+
+    /**
+     * Starts the sessions of the Micro and Cloud projects already detected.
+     */
+    public void warmUp() {
+        PayaraProjectService service = PayaraProjectService.getInstance(project);
+        List<String> tabNames = new ArrayList<>();
+        PayaraMicroProject microProject = service.peekMicroProject();
+        if (microProject != null) {
+            tabNames.add(microProject.getProjectName());
+            tabNames.add(microProject.getProjectName() + INSTANCE_SUFFIX);
+        }
+        PayaraCloudProject cloudProject = service.peekCloudProject();
+        if (cloudProject != null) {
+            tabNames.add(cloudProject.getProjectName());
+            tabNames.add(cloudProject.getProjectName() + INSTANCE_SUFFIX);
+        }
+        tabNames.forEach(this::acquire);
+    }
+
+    /**
+     * @param tabName the tab name
+     * @return completed with the session once its shell is connected
+     */
+    @NotNull
+    public CompletableFuture<TerminalWidget> acquire(@NotNull String tabName) {
+        return sessions.computeIfAbsent(tabName, this::open);
+    }
+
+    /**
+     * Types the command into the session of the tab once it is ready and the
+     * previous command of the tab is sent.
+     *
+     * @param tabName the tab name
+     * @param command the command line
+     * @return completed when the command is sent, or the pending send of the
+     * same command
+     */
+    @NotNull
+    public CompletableFuture<Void> execute(@NotNull String tabName, @NotNull String command) {
+        synchronized (lock) {
+            PendingSend previous = pending.get(tabName);
+            if (previous != null && previous.command.equals(command)) {
+                LOG.log(FINE, "{0} is already pending in the {1} terminal", new Object[]{command, tabName});
+                return previous.sent;
+            }
+            CompletableFuture<Void> turn = previous != null
+                    ? previous.sent.exceptionally(error -> null)
+                    : CompletableFuture.completedFuture(null);
+            CompletableFuture<Void> sent = turn.thenCompose(ignored -> acquire(tabName)).thenAcceptAsync(widget -> {
+                TerminalToolWindowManager.getInstance(project).getToolWindow().activate(null);
+                IdeFocusManager.getInstance(project).requestFocus(widget.getPreferredFocusableComponent(), true);
+                widget.sendCommandToExecute(command);
+            }, EdtExecutorService.getInstance());
+            PendingSend send = new PendingSend(command, sent);
+            pending.put(tabName, send);
+            sent.whenComplete((result, error) -> {
+                synchronized (lock) {
+                    pending.remove(tabName, send);
+                }
+                if (error != null) {
+                    LOG.log(SEVERE, "Unable to run " + command + " in the " + tabName + " terminal", error);
+                }
+            });
+            return sent;
+        }
+    }
+
+    private CompletableFuture<TerminalWidget> open(String tabName) {
+        CompletableFuture<TerminalWidget> ready = new CompletableFuture<>();
+        ApplicationManager.getApplication().invokeLater(() -> {
+            try {
+                TerminalWidget widget = TerminalToolWindowManager.getInstance(project)
+                        .createShellWidget(project.getBasePath(), tabName, false, false);
+                // closed tab or exited shell, the next command opens a new one
+                Disposer.register(widget, () -> sessions.remove(tabName, ready));
+                widget.addTerminationCallback(() -> sessions.remove(tabName, ready), widget);
+                widget.getTtyConnectorAccessor().executeWithTtyConnector(connector -> ready.complete(widget));
+            } catch (RuntimeException ex) {
+                sessions.remove(tabName, ready);
+                ready.completeExceptionally(ex);
+            }
+        }, project.getDisposed());
+        return ready;
+    }
+
+    private static final class PendingSend {
+
+        private final String command;
+        private final CompletableFuture<Void> sent;
+
+        private PendingSend(String command, CompletableFuture<Void> sent) {
+            this.command = command;
+            this.sent = sent;
+        }
+    }
+}
@@ -16,7 +16,9 @@
  */
 package fish.payara.micro;
 
+import com.intellij.debugger.DebuggerManagerEx;
 import com.intellij.debugger.engine.RemoteStateState;
+import com.intellij.debugger.impl.DebuggerSession;
 import com.intellij.debugger.impl.DebuggerManagerImpl;
 import com.intellij.execution.*;
 import com.intellij.execution.configurations.*;
@@ -24,7 +26,9 @@ import com.intellij.execution.executors.DefaultDebugExecutor;
 import com.intellij.execution.runners.ExecutionEnvironment;
 import com.intellij.openapi.options.SettingsEditor;
 import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.Key;
 import org.jdom.Element;
+import org.jetbrains.annotations.Nullable;
 
 import javax.swing.*;
 
@@ -32,10 +36,49 @@ import static fish.payara.PayaraConstants.DEFAULT_DEBUG_PORT;
 
 public class DebuggerManager {
 
+    private static final Key<RunnerAndConfigurationSettings> SETTINGS_KEY = Key.create("fish.payara.debugger.settings");
+
     public static void connect(Project project) {
-        RunnerAndConfigurationSettings runSettings = RunManager.getInstance(project)
-                .createConfiguration(project.getName(), ProcessAttachRunConfigurationType.FACTORY);
-        ProgramRunnerUtil.executeConfiguration(runSettings, ProcessAttachDebugExecutor.INSTANCE);
+        ProgramRunnerUtil.executeConfiguration(getSettings(project), ProcessAttachDebugExecutor.INSTANCE);
+    }
+
+    /**
+     * Create the attach configuration of the debug port ahead of the first
+     * connect.
+     *
+     * @param project the project
+     */
+    public static void prepare(Project project) {
+        getSettings(project);
+    }
+
+    /**
+     * @param project the project
+     * @return the debug session attached to the Micro instance, null if not
+     * connected
+     */
+    @Nullable
+    public static DebuggerSession findSession(Project project) {
+        RunnerAndConfigurationSettings runSettings = project.getUserData(SETTINGS_KEY);
+        if (runSettings == null) {
+            return null;
+        }
+        for (DebuggerSession session : DebuggerManagerEx.getInstanceEx(project).getSessions()) {
+            if (session.isAttached() && runSettings.getName().equals(session.getSessionName())) {
+                return session;
+            }
+        }
+        return null;
+    }
+
+    private static RunnerAndConfigurationSettings getSettings(Project project) {
+        RunnerAndConfigurationSettings runSettings = project.getUserData(SETTINGS_KEY);
+        if (runSettings == null) {
+            runSettings = RunManager.getInstance(project)
+                    .createConfiguration(project.getName(), ProcessAttachRunConfigurationType.FACTORY);
+            project.putUserData(SETTINGS_KEY, runSettings);
+        }
+        return runSettings;
     }
 
     public static class ProcessAttachRunConfigurationType implements ConfigurationType {
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.micro;
+
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleManager;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.roots.CompilerModuleExtension;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import fish.payara.execution.ExplodedWarSync;
+import fish.payara.micro.gradle.GradleProject;
+import fish.payara.micro.maven.MicroMavenProject;
+import fish.payara.util.MavenModelUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.idea.maven.project.MavenProject;
+
+/**
+ * Updates the exploded war of a Micro project from the IDE compiler output
+ * with an {@link ExplodedWarSync}, then touches the reload file watched by
+ * Payara Micro. No build tool is run.
+ * <p>
+ * A Gradle source set keeps its processed resources apart from the classes,
+ * e.g. {@code build/resources/main} next to {@code build/classes/java/main},
+ * so that output is synced into {@code WEB-INF/classes} as well.
+ */
+public final class ExplodedSync {
+
+    /**
+     * The file Payara Micro watches in the exploded war to redeploy it.
+     */
+    static final String RELOAD_FILE = ".reload";
+    private static final String GRADLE_MAIN_MODULE_SUFFIX = ".main";
+    private static final String GRADLE_CLASSES_DIR = "classes";
+    private static final String GRADLE_RESOURCES_DIR = "resources";
+
+    private ExplodedSync() {
+    }
+
+    /**
+     * @param microProject the project
+     * @return true if the project is exploded, its exploded war exists and
+     * the IDE compiles its module
+     */
+    public static boolean isAvailable(@NotNull PayaraMicroProject microProject) {
+        if (!microProject.isExploded()) {
+            return false;
+        }
+        Path explodedDirectory = microProject.getExplodedDirectory();
+        return explodedDirectory != null && Files.isDirectory(explodedDirectory)
+                && getCompilerOutput(findModule(microProject)) != null;
+    }
+
+    /**
+     * @param microProject the project, see {@link #isAvailable}
+     * @return the not started sync, its console shows the synced files
+     */
+    @NotNull
+    public static ProcessHandler createProcessHandler(@NotNull PayaraMicroProject microProject) {
+        Module module = findModule(microProject);
+        return new ExplodedSyncProcessHandler(microProject.getProject(), module,
+                createSync(microProject, getCompilerOutput(module), microProject.getBuildFile().getVirtualFile()),
+                microProject::completeBuild);
+    }
+
+    /**
+     * Syncs the IDE compiler output and the webapp sources into the exploded
+     * war without touching the reload file, e.g. after a HotSwap, so the
+     * exploded war matches the redefined classes on the next reload or
+     * restart.
+     *
+     * @param microProject the project, see {@link #isAvailable}
+     * @return the number of copied and deleted files
+     * @throws IOException if a file can not be copied or deleted
+     */
+    public static int copyOutputs(@NotNull PayaraMicroProject microProject) throws IOException {
+        Path compilerOutput = getCompilerOutput(findModule(microProject));
+        VirtualFile buildFile = microProject.getBuildFile().getVirtualFile();
+        if (compilerOutput == null || buildFile == null) {
+            return 0;
+        }
+        int synced = createSync(microProject, compilerOutput, buildFile).sync();
+        microProject.completeBuild();
+        return synced;
+    }
+
+    private static ExplodedWarSync createSync(PayaraMicroProject microProject, Path compilerOutput, VirtualFile buildFile) {
+        MavenProject mavenProject = microProject instanceof MicroMavenProject
+                ? MavenModelUtil.findProject(microProject.getProject(), microProject.getBuildFile()) : null;
+        return new ExplodedWarSync(compilerOutput,
+                microProject instanceof GradleProject ? getGradleResourceOutput(compilerOutput) : null,
+                ExplodedWarSync.getWebappDirectory(mavenProject, buildFile.getParent().toNioPath()),
+                microProject.getExplodedDirectory(),
+                RELOAD_FILE);
+    }
+
+    /**
+     * Creates or touches the reload file.
+     *
+     * @param explodedDirectory the exploded war
+     * @throws IOException if the file can not be written
+     */
+    static void touchReloadFile(@NotNull Path explodedDirectory) throws IOException {
+        Path reloadFile = explodedDirectory.resolve(RELOAD_FILE);
+        if (Files.exists(reloadFile)) {
+            Files.setLastModifiedTime(reloadFile, FileTime.fromMillis(System.currentTimeMillis()));
+        } else {
+            Files.createFile(reloadFile);
+        }
+    }
+
+    /**
+     * @return the module of the build file, or its main source set module for
+     * the Gradle projects
+     */
+    @Nullable
+    private static Module findModule(PayaraMicroProject microProject) {
+        VirtualFile buildFile = microProject.getBuildFile().getVirtualFile();
+        if (buildFile == null) {
+            return null;
+        }
+        return ReadAction.compute(() -> {
+            Module module = ModuleUtilCore.findModuleForFile(buildFile, microProject.getProject());
+            if (module == null) {
+                return null;
+            }
+            Module mainModule = ModuleManager.getInstance(microProject.getProject())
+                    .findModuleByName(module.getName() + GRADLE_MAIN_MODULE_SUFFIX);
+            return mainModule != null ? mainModule : module;
+        });
+    }
+
+    /**
+     * @param compilerOutput the classes output of a Gradle source set, i.e.
+     * {@code build/classes/<language>/<sourceSet>} when Gradle builds it or
+     * {@code out/production/classes} when the IDE does
+     * @return the resources output of the source set, i.e.
+     * {@code build/resources/<sourceSet>} or {@code out/production/resources},
+     * null if the layout is not known
+     */
+    @Nullable
+    static Path getGradleResourceOutput(@NotNull Path compilerOutput) {
+        Path parent = compilerOutput.getParent();
+        if (parent == null) {
+            return null;
+        }
+        if (GRADLE_CLASSES_DIR.equals(compilerOutput.getFileName().toString())) {
+            return parent.resolve(GRADLE_RESOURCES_DIR);
+        }
+        Path languageDir = parent.getParent();
+        if (languageDir != null && GRADLE_CLASSES_DIR.equals(languageDir.getFileName().toString())) {
+            return languageDir.resolveSibling(GRADLE_RESOURCES_DIR).resolve(compilerOutput.getFileName());
+        }
+        return null;
+    }
+
+    @Nullable
+    private static Path getCompilerOutput(@Nullable Module module) {
+        CompilerModuleExtension extension = module != null ? CompilerModuleExtension.getInstance(module) : null;
+        String url = extension != null ? extension.getCompilerOutputUrl() : null;
+        return url != null ? Path.of(VfsUtilCore.urlToPath(url)) : null;
+    }
+}
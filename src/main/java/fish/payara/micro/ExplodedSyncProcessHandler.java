@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.micro;
+
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessOutputTypes;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import fish.payara.PayaraBundle;
+import fish.payara.execution.ExplodedWarSync;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Builds the module with the IDE compiler and syncs its output into the
+ * exploded war behind the process handler interface, so the sync gets a
+ * regular console and runs through the project scheduler like the build tool
+ * reload.
+ */
+final class ExplodedSyncProcessHandler extends ProcessHandler {
+
+    private static final Logger LOG = Logger.getLogger(ExplodedSyncProcessHandler.class.getName());
+
+    private static final int SUCCESS = 0;
+    private static final int FAILURE = 1;
+
+    private final Project project;
+    private final Module module;
+    private final ExplodedWarSync sync;
+    private final Runnable afterSync;
+
+    /**
+     * @param afterSync completes the exploded war before the reload, see
+     * {@link PayaraMicroProject#completeBuild}
+     */
+    ExplodedSyncProcessHandler(@NotNull Project project, @NotNull Module module, @NotNull ExplodedWarSync sync,
+            @NotNull Runnable afterSync) {
+        this.project = project;
+        this.module = module;
+        this.sync = sync;
+        this.afterSync = afterSync;
+    }
+
+    @Override
+    public void startNotify() {
+        super.startNotify();
+        long start = System.nanoTime();
+        ExplodedWarSync.compile(project, module).onProcessed(compiled -> {
+            if (!Boolean.TRUE.equals(compiled)) {
+                notifyTextAvailable(PayaraBundle.message("ExplodedSync.compile.failed") + '\n', ProcessOutputTypes.STDERR);
+                notifyProcessTerminated(FAILURE);
+                return;
+            }
+            ApplicationManager.getApplication().executeOnPooledThread(() -> sync(start));
+        });
+    }
+
+    private void sync(long start) {
+        if (isProcessTerminating() || isProcessTerminated()) {
+            return;
+        }
+        try {
+            int copied = sync.sync();
+            afterSync.run();
+            ExplodedSync.touchReloadFile(sync.getExplodedDirectory());
+            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            notifyTextAvailable(PayaraBundle.message("ExplodedSync.synced", copied, sync.getExplodedDirectory(), duration) + '\n',
+                    ProcessOutputTypes.SYSTEM);
+            notifyProcessTerminated(SUCCESS);
+        } catch (IOException ex) {
+            LOG.log(WARNING, "Unable to sync " + sync.getExplodedDirectory(), ex);
+            notifyTextAvailable(ex.getMessage() + '\n', ProcessOutputTypes.STDERR);
+            notifyProcessTerminated(FAILURE);
+        }
+    }
+
+    @Override
+    protected void destroyProcessImpl() {
+        notifyProcessTerminated(FAILURE);
+    }
+
+    @Override
+    protected void detachProcessImpl() {
+        notifyProcessDetached();
+    }
+
+    @Override
+    public boolean detachIsDefault() {
+        return false;
+    }
+
+    @Nullable
+    @Override
+    public OutputStream getProcessInput() {
+        return null;
+    }
+}
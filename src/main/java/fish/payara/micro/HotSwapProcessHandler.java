@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.micro;
+
+import com.intellij.debugger.impl.DebuggerSession;
+import com.intellij.debugger.ui.HotSwapStatusListener;
+import com.intellij.debugger.ui.HotSwapUI;
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessOutputTypes;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.project.Project;
+import fish.payara.PayaraBundle;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Compiles the changed classes and redefines them in the Micro instance
+ * through its attached debug session, behind the process handler interface.
+ * The JVM only redefines the method bodies, so the handler terminates with
+ * {@link #FALLBACK} on the structural changes and when no class changed, for
+ * the caller to run the regular reload. After a successful HotSwap the
+ * compiler output is still copied into the exploded war, without a reload,
+ * so a later reload or restart does not run the stale classes.
+ */
+public final class HotSwapProcessHandler extends ProcessHandler {
+
+    private static final Logger LOG = Logger.getLogger(HotSwapProcessHandler.class.getName());
+
+    public static final int SUCCESS = 0;
+    public static final int FALLBACK = 2;
+    private static final int CANCELLED = 1;
+
+    private final Project project;
+    private final PayaraMicroProject microProject;
+    private final DebuggerSession session;
+
+    public HotSwapProcessHandler(@NotNull PayaraMicroProject microProject, @NotNull DebuggerSession session) {
+        this.project = microProject.getProject();
+        this.microProject = microProject;
+        this.session = session;
+    }
+
+    @Override
+    public void startNotify() {
+        super.startNotify();
+        long start = System.nanoTime();
+        ApplicationManager.getApplication().invokeLater(() -> HotSwapUI.getInstance(project)
+                .reloadChangedClasses(session, true, new HotSwapStatusListener() {
+                    @Override
+                    public void onSuccess(List<DebuggerSession> sessions) {
+                        ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                            copyOutputs();
+                            terminated(SUCCESS, PayaraBundle.message("HotSwap.success", elapsed(start)));
+                        });
+                    }
+
+                    @Override
+                    public void onNothingToReload(List<DebuggerSession> sessions) {
+                        terminated(FALLBACK, PayaraBundle.message("HotSwap.nothing", elapsed(start)));
+                    }
+
+                    @Override
+                    public void onFailure(List<DebuggerSession> sessions) {
+                        terminated(FALLBACK, PayaraBundle.message("HotSwap.failure", elapsed(start)));
+                    }
+
+                    @Override
+                    public void onCancel(List<DebuggerSession> sessions) {
+                        terminated(FALLBACK, PayaraBundle.message("HotSwap.cancel", elapsed(start)));
+                    }
+                }), project.getDisposed());
+    }
+
+    private void copyOutputs() {
+        if (!ExplodedSync.isAvailable(microProject)) {
+            return;
+        }
+        try {
+            ExplodedSync.copyOutputs(microProject);
+        } catch (IOException ex) {
+            LOG.log(WARNING, "Unable to sync " + microProject.getExplodedDirectory(), ex);
+            notifyTextAvailable(ex.getMessage() + '\n', ProcessOutputTypes.STDERR);
+        }
+    }
+
+    private static long elapsed(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private void terminated(int exitCode, String message) {
+        if (isProcessTerminating() || isProcessTerminated()) {
+            return;
+        }
+        LOG.info(message);
+        notifyTextAvailable(message + '\n', ProcessOutputTypes.SYSTEM);
+        notifyProcessTerminated(exitCode);
+    }
+
+    @Override
+    protected void destroyProcessImpl() {
+        notifyProcessTerminated(CANCELLED);
+    }
+
+    @Override
+    protected void detachProcessImpl() {
+        notifyProcessDetached();
+    }
+
+    @Override
+    public boolean detachIsDefault() {
+        return false;
+    }
+
+    @Nullable
+    @Override
+    public OutputStream getProcessInput() {
+        return null;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.micro;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.actionSystem.ActionManager;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.util.Alarm;
+import com.intellij.util.messages.MessageBusConnection;
+import com.intellij.util.messages.Topic;
+import fish.payara.execution.PayaraCommandScheduler;
+import fish.payara.execution.PayaraExecutionSettings;
+import fish.payara.execution.ScheduledCommand;
+import fish.payara.execution.ScheduledCommand.Operation;
+import fish.payara.micro.actions.MicroReloadAction;
+import fish.payara.project.PayaraProjectService;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Reloads the exploded Micro application when its sources or resources are
+ * saved. The changes are batched until no file changed for a quiet window,
+ * so a series of saves triggers a single reload.
+ */
+@Service(Service.Level.PROJECT)
+public final class MicroReloadWatcher implements Disposable {
+
+    private static final Logger LOG = Logger.getLogger(MicroReloadWatcher.class.getName());
+
+    public static final Topic<Listener> TOPIC = Topic.create("Payara Micro reload watcher", Listener.class);
+
+    private static final String RELOAD_ACTION_ID = "fish.payara.micro.actions.MicroReloadAction";
+    private static final int QUIET_WINDOW = 400;
+    private static final String SOURCES_DIR = "/src/main/";
+
+    private final Project project;
+
+    private final Alarm alarm;
+
+    private final Object lock = new Object();
+
+    private final Set<String> changes = new HashSet<>();
+
+    private MessageBusConnection connection;
+
+    /**
+     * Time of the first change not sent to a reload yet.
+     */
+    private long changedSince;
+
+    /**
+     * Time of the first change of the reload in progress.
+     */
+    private long reloadRequestedSince;
+
+    private volatile long lastLatency = -1;
+
+    public MicroReloadWatcher(@NotNull Project project) {
+        this.project = project;
+        this.alarm = new Alarm(Alarm.ThreadToUse.POOLED_THREAD, this);
+    }
+
+    public static MicroReloadWatcher getInstance(@NotNull Project project) {
+        return project.getService(MicroReloadWatcher.class);
+    }
+
+    /**
+     * Notified on the EDT or a pooled thread when the watch state or the
+     * reload latency changes.
+     */
+    public interface Listener {
+
+        void stateChanged();
+    }
+
+    /**
+     * Start watching the sources of the Micro project.
+     */
+    public void start() {
+        synchronized (lock) {
+            if (connection != null) {
+                return;
+            }
+            connection = project.getMessageBus().connect(this);
+        }
+        connection.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                collect(events);
+            }
+        });
+        connection.subscribe(PayaraCommandScheduler.TOPIC, new PayaraCommandScheduler.Listener() {
+            @Override
+            public void commandFinished(@NotNull ScheduledCommand command, int exitCode) {
+                reloaded(command, exitCode);
+            }
+        });
+        fireStateChanged();
+    }
+
+    public void stop() {
+        synchronized (lock) {
+            if (connection == null) {
+                return;
+            }
+            connection.disconnect();
+            connection = null;
+            changes.clear();
+            changedSince = 0;
+            reloadRequestedSince = 0;
+        }
+        alarm.cancelAllRequests();
+        fireStateChanged();
+    }
+
+    public boolean isWatching() {
+        synchronized (lock) {
+            return connection != null;
+        }
+    }
+
+    /**
+     * @return the time in ms from the first saved change to the end of its
+     * reload, -1 if no reload completed yet
+     */
+    public long getLastLatency() {
+        return lastLatency;
+    }
+
+    private void collect(List<? extends VFileEvent> events) {
+        String sourcesDir = getSourcesDir(PayaraProjectService.getInstance(project).peekMicroProject());
+        if (sourcesDir == null) {
+            return;
+        }
+        boolean changed = false;
+        synchronized (lock) {
+            for (VFileEvent event : events) {
+                if (event.getPath().startsWith(sourcesDir) && changes.add(event.getPath())) {
+                    changed = true;
+                }
+            }
+            if (changed && changedSince == 0) {
+                changedSince = System.nanoTime();
+            }
+        }
+        if (changed) {
+            alarm.cancelAllRequests();
+            alarm.addRequest(this::reload, QUIET_WINDOW);
+        }
+    }
+
+    /**
+     * Runs once no file changed during the quiet window.
+     */
+    private void reload() {
+        PayaraMicroProject microProject = PayaraProjectService.getInstance(project).peekMicroProject();
+        int batch;
+        synchronized (lock) {
+            batch = changes.size();
+            changes.clear();
+            if (batch == 0 || microProject == null || connection == null) {
+                return;
+            }
+            // the commands typed into the Terminal report no completion
+            if (reloadRequestedSince == 0 && !PayaraExecutionSettings.isTerminalEnabled(project)) {
+                reloadRequestedSince = changedSince;
+            }
+            changedSince = 0;
+        }
+        LOG.info(String.format("Reloading %s for %d changed file(s)", microProject.getProjectName(), batch));
+        AnAction action = ActionManager.getInstance().getAction(RELOAD_ACTION_ID);
+        if (action instanceof MicroReloadAction) {
+            ApplicationManager.getApplication().invokeLater(
+                    () -> ((MicroReloadAction) action).onAction(microProject), project.getDisposed());
+        }
+    }
+
+    private void reloaded(ScheduledCommand command, int exitCode) {
+        PayaraMicroProject microProject = PayaraProjectService.getInstance(project).peekMicroProject();
+        if (command.getOperation() != Operation.RELOAD || microProject == null
+                || !command.getName().equals(microProject.getProjectName())) {
+            return;
+        }
+        synchronized (lock) {
+            if (reloadRequestedSince == 0) {
+                return;
+            }
+            if (exitCode == 0) {
+                lastLatency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - reloadRequestedSince);
+            }
+            reloadRequestedSince = 0;
+        }
+        fireStateChanged();
+    }
+
+    /**
+     * @return the sources directory of the exploded project, null if not
+     * watchable
+     */
+    @Nullable
+    private static String getSourcesDir(@Nullable PayaraMicroProject microProject) {
+        if (microProject == null || !microProject.isExploded() || microProject.getBuildFile() == null) {
+            return null;
+        }
+        VirtualFile buildFile = microProject.getBuildFile().getVirtualFile();
+        VirtualFile directory = buildFile != null ? buildFile.getParent() : null;
+        return directory != null ? directory.getPath() + SOURCES_DIR : null;
+    }
+
+    private void fireStateChanged() {
+        if (!project.isDisposed()) {
+            project.getMessageBus().syncPublisher(TOPIC).stateChanged();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        synchronized (lock) {
+            connection = null;
+            changes.clear();
+        }
+    }
+}
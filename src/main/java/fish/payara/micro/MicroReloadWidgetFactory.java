@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.micro;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.StatusBar;
+import com.intellij.openapi.wm.StatusBarWidget;
+import com.intellij.openapi.wm.StatusBarWidgetFactory;
+import fish.payara.PayaraBundle;
+import fish.payara.execution.PayaraExecutionSettings;
+import java.awt.Component;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shows the latency from the saved change to the completed reload of the
+ * watched Micro project in the status bar.
+ */
+public class MicroReloadWidgetFactory implements StatusBarWidgetFactory {
+
+    public static final String ID = "fish.payara.micro.reload";
+
+    @Override
+    public @NotNull String getId() {
+        return ID;
+    }
+
+    @Override
+    public @NotNull String getDisplayName() {
+        return PayaraBundle.message("MicroReloadWidget.name");
+    }
+
+    @Override
+    public boolean isAvailable(@NotNull Project project) {
+        return PayaraExecutionSettings.isWatchEnabled(project);
+    }
+
+    @Override
+    public @NotNull StatusBarWidget createWidget(@NotNull Project project) {
+        return new MicroReloadWidget(project);
+    }
+
+    private static final class MicroReloadWidget implements StatusBarWidget, StatusBarWidget.TextPresentation {
+
+        private final Project project;
+
+        private MicroReloadWidget(Project project) {
+            this.project = project;
+        }
+
+        @Override
+        public @NotNull String ID() {
+            return ID;
+        }
+
+        @Override
+        public void install(@NotNull StatusBar statusBar) {
+            project.getMessageBus().connect(this)
+                    .subscribe(MicroReloadWatcher.TOPIC, (MicroReloadWatcher.Listener) () -> statusBar.updateWidget(ID));
+        }
+
+        @Override
+        public @Nullable WidgetPresentation getPresentation() {
+            return this;
+        }
+
+        @Override
+        public @NotNull String getText() {
+            MicroReloadWatcher watcher = MicroReloadWatcher.getInstance(project);
+            if (!watcher.isWatching()) {
+                return PayaraBundle.message("MicroReloadWidget.stopped");
+            }
+            long latency = watcher.getLastLatency();
+            return latency < 0
+                    ? PayaraBundle.message("MicroReloadWidget.watching")
+                    : PayaraBundle.message("MicroReloadWidget.latency", latency);
+        }
+
+        @Override
+        public @Nullable String getTooltipText() {
+            return PayaraBundle.message("MicroReloadWidget.tooltip");
+        }
+
+        @Override
+        public float getAlignment() {
+            return Component.LEFT_ALIGNMENT;
+        }
+
+        @Override
+        public void dispose() {
+        }
+    }
+}
@@ -26,7 +26,10 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.util.ReflectionUtil;
 import com.intellij.util.messages.MessageBus;
+import fish.payara.execution.BuildCommand;
+import java.nio.file.Path;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.picocontainer.PicoContainer;
 import kotlinx.coroutines.CoroutineScope;
 import kotlinx.coroutines.GlobalScope;
@@ -59,14 +62,44 @@ public abstract class PayaraMicroProject {
 
     public abstract String getProjectName();
 
-    public abstract String getStartCommand(boolean debug);
+    public abstract BuildCommand getStartCommand(boolean debug);
 
-    public abstract String getReloadCommand();
+    /**
+     * @return true if the application is deployed as an exploded war, the
+     * reload task is only functional in this mode
+     */
+    public abstract boolean isExploded();
 
-    public abstract String getStopCommand();
+    public abstract BuildCommand getReloadCommand();
 
-    public abstract String getBundleCommand();
+    /**
+     * @return the exploded war directory deployed by Payara Micro, null if
+     * not known
+     */
+    @Nullable
+    public abstract Path getExplodedDirectory();
 
-    public abstract String getTransformCommand(String srcPath, String targetPath);
+    public abstract BuildCommand getStopCommand();
+
+    public abstract BuildCommand getBundleCommand();
+
+    public abstract BuildCommand getTransformCommand(String srcPath, String targetPath);
+
+    /**
+     * @return the build the start and reload commands run after, once the
+     * exploded war is completed from its output, see {@link #completeBuild};
+     * null if those commands build what they need
+     */
+    @Nullable
+    public BuildCommand getExplodedBuildCommand() {
+        return null;
+    }
+
+    /**
+     * Completes the exploded war once the IDE or the build tool built it,
+     * called off the EDT.
+     */
+    public void completeBuild() {
+    }
 
 }
@@ -16,29 +16,37 @@
  */
 package fish.payara.micro.actions;
 
+import com.intellij.execution.ExecutionException;
 import com.intellij.notification.*;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
 import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
-import com.intellij.openapi.wm.ToolWindow;
-import com.intellij.openapi.wm.ToolWindowManager;
-import com.intellij.terminal.JBTerminalWidget;
-import com.intellij.ui.content.Content;
-import com.jediterm.terminal.TtyConnector;
 import fish.payara.PayaraBundle;
 import fish.payara.PayaraConstants;
 import fish.payara.micro.PayaraMicroProject;
 import fish.payara.micro.gradle.GradleProject;
-import fish.payara.micro.maven.MicroMavenProject;
+import fish.payara.micro.gradle.GradleTaskRunner;
+import fish.payara.execution.BuildCommand;
+import fish.payara.execution.ExecutionProfile;
+import fish.payara.execution.ExecutionTimings;
+import fish.payara.execution.MavenDaemon;
+import fish.payara.execution.PayaraCommandExecutor;
+import fish.payara.execution.PayaraCommandScheduler;
+import fish.payara.execution.PayaraExecution;
+import fish.payara.execution.PayaraExecutionSettings;
+import fish.payara.execution.TerminalSessionPool;
+import fish.payara.execution.ScheduledCommand.Operation;
+import fish.payara.project.PayaraProjectService;
+import fish.payara.util.EdtWatchdog;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.plugins.terminal.LocalTerminalDirectRunner;
-import org.jetbrains.plugins.terminal.ShellTerminalWidget;
-import org.jetbrains.plugins.terminal.TerminalTabState;
-import org.jetbrains.plugins.terminal.TerminalView;
+import org.jetbrains.annotations.Nullable;
 
-import java.awt.event.KeyEvent;
-import java.io.IOException;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -50,93 +58,183 @@ public abstract class MicroAction extends AnAction {
 
     private static final Logger LOG = Logger.getLogger(MicroAction.class.getName());
 
-    private static final String TOOL_WINDOW_ID = "Terminal";
+    /**
+     * Printed by Payara Micro once booted with the application deployed,
+     * e.g. {@code Payara Micro 6.2024.1 #badassmicrofish (build 1) ready in
+     * 5,432 (ms)}.
+     */
+    private static final Predicate<String> READY_LINE = line -> line.contains("Payara Micro") && line.contains(" ready in ");
 
+    @NotNull
+    @Override
+    public ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+
+    /**
+     * Enablement only reads the cached project state, the detection runs at
+     * project open or when the action is performed.
+     */
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        if (project == null) {
+            e.getPresentation().setEnabled(false);
+            return;
+        }
+        PayaraProjectService service = PayaraProjectService.getInstance(project);
+        if (!service.isMicroProjectResolved()) {
+            e.getPresentation().setEnabledAndVisible(true);
+            return;
+        }
+        PayaraMicroProject microProject = service.peekMicroProject();
+        e.getPresentation().setEnabled(microProject != null);
+        e.getPresentation().setVisible(microProject == null || isAvailable(microProject));
+    }
+
+    /**
+     * @param project the detected project
+     * @return false to hide the action for the project
+     */
+    protected boolean isAvailable(PayaraMicroProject project) {
+        return true;
+    }
+
+    /**
+     * Detects the project in a cancellable background task, only the
+     * console and dialog work of {@link #onAction} runs on the EDT.
+     */
     @Override
     public void actionPerformed(@NotNull AnActionEvent e) {
-        try {
-            final Project project = CommonDataKeys.PROJECT.getData(e.getDataContext());
-            if (project == null) {
-                LOG.warning("Unable to resolve project type.");
-                return;
-            }
+        final Project project = CommonDataKeys.PROJECT.getData(e.getDataContext());
+        if (project == null) {
+            LOG.warning("Unable to resolve project type.");
+            return;
+        }
+        String description = e.getPresentation().getDescription();
+        String actionName = getClass().getSimpleName();
+        new Task.Backgroundable(project, PayaraBundle.message("MicroAction.task.title"), true) {
 
-            PayaraMicroProject microProject = MicroMavenProject.getInstance(project);
-            PayaraMicroProject gradleProject = GradleProject.getInstance(project);
-            if (microProject == null && gradleProject == null) {
-                LOG.warning(PayaraBundle.message("MicroAction.notification.message"));
-                Notifications.Bus.notify(
-                        new Notification(
-                                PayaraBundle.message("MicroAction.notification.group"),
-                                PayaraConstants.PAYARA_ICON,
-                                e.getPresentation().getDescription(),
-                                "",
-                                PayaraBundle.message("MicroAction.notification.message"),
-                                NotificationType.WARNING,
-                                NotificationListener.URL_OPENING_LISTENER
-                        ), project);
-                return;
+            private PayaraMicroProject microProject;
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                microProject = PayaraProjectService.getInstance(project).getMicroProject();
+                indicator.checkCanceled();
+                if (microProject != null) {
+                    // read from the build files and cached by the project
+                    microProject.getProjectName();
+                }
             }
-            if (microProject != null) {
-                onAction(microProject);
-            } else {
-                onAction(gradleProject);
+
+            @Override
+            public void onSuccess() {
+                if (microProject == null) {
+                    LOG.warning(PayaraBundle.message("MicroAction.notification.message"));
+                    Notifications.Bus.notify(
+                            new Notification(
+                                    PayaraBundle.message("MicroAction.notification.group"),
+                                    PayaraConstants.PAYARA_ICON,
+                                    description,
+                                    "",
+                                    PayaraBundle.message("MicroAction.notification.message"),
+                                    NotificationType.WARNING,
+                                    NotificationListener.URL_OPENING_LISTENER
+                            ), project);
+                    return;
+                }
+                EdtWatchdog.run(actionName, () -> {
+                    try {
+                        onAction(microProject);
+                    } catch (Exception ex) {
+                        LOG.log(Level.SEVERE, null, ex);
+                    }
+                });
             }
-        } catch (Exception ex) {
-            LOG.log(Level.SEVERE, null, ex);
-        }
+        }.queue();
     }
 
     public abstract void onAction(PayaraMicroProject project);
 
-    public JBTerminalWidget getTerminal(Project project, String tabName) {
-        ToolWindowManager windowManager = ToolWindowManager.getInstance(project);
-        ToolWindow terminalWindow = windowManager.getToolWindow(TOOL_WINDOW_ID);
-        if (terminalWindow != null) {
-            JBTerminalWidget widget = findTerminal(terminalWindow, tabName);
-            if (widget != null) {
-                return widget;
+    /**
+     * Run the command with its own console, or type it into the Terminal tool
+     * window if enabled for the project.
+     *
+     * @param microProject the project
+     * @param tabName the console or terminal tab name
+     * @param buildCommand the build command, the execution profile of the
+     * project is applied to it
+     * @return the started execution, null if typed into the Terminal or not
+     * started
+     */
+    @Nullable
+    public PayaraExecution executeCommand(PayaraMicroProject microProject, String tabName, BuildCommand buildCommand) {
+        Project project = microProject.getProject();
+        ExecutionProfile profile = PayaraExecutionSettings.getExecutionProfile(project);
+        BuildCommand command = profile.apply(buildCommand);
+        if (PayaraExecutionSettings.isTerminalEnabled(project)) {
+            TerminalSessionPool.getInstance(project).execute(tabName, MavenDaemon.apply(project, command.toString()));
+            return null;
+        }
+        PayaraExecution execution;
+        try {
+            if (microProject instanceof GradleProject) {
+                execution = GradleTaskRunner.getInstance(project).execute(tabName, (GradleProject) microProject, command);
+            } else {
+                execution = PayaraCommandExecutor.getInstance(project).execute(tabName, command.toString(), microProject.getBuildFile());
             }
-            createTerminal(project, tabName);
-            return findTerminal(terminalWindow, tabName);
+        } catch (ExecutionException ex) {
+            LOG.log(Level.SEVERE, command.toString(), ex);
+            return null;
         }
-        return null;
-    }
-
-    private void createTerminal(Project project, String tabName) {
-        TerminalTabState tabState = new TerminalTabState();
-        tabState.myTabName = tabName;
-        tabState.myWorkingDirectory = project.getBasePath();
-        TerminalView.getInstance(project)
-                .createNewSession(new LocalTerminalDirectRunner(project), tabState);
+        ExecutionTimings.track(project, profile, command, execution);
+        return execution;
     }
 
-    private JBTerminalWidget findTerminal(ToolWindow terminalWindow, String tabName) {
-        Content[] contents = terminalWindow.getContentManager().getContents();
-        for (Content content : contents) {
-            if (content.getTabName().equals(tabName)) {
-                return TerminalView.getWidgetByContent(content);
+    /**
+     * Run the command through the project scheduler, so it does not overlap
+     * the other operations of the project and is fused with the commands
+     * queued next to it. A start or reload needing the
+     * {@link PayaraMicroProject#getExplodedBuildCommand exploded build} runs
+     * once that build succeeded and the exploded war is completed. Commands typed into the Terminal are not scheduled, the
+     * {@link TerminalSessionPool} serializes them per tab.
+     *
+     * @param microProject the project
+     * @param operation the operation of the command
+     * @param tabName the console or terminal tab name
+     * @param command the build command
+     */
+    public void scheduleCommand(PayaraMicroProject microProject, Operation operation, String tabName, BuildCommand command) {
+        Project project = microProject.getProject();
+        BuildCommand build = operation == Operation.START || operation == Operation.RELOAD
+                ? microProject.getExplodedBuildCommand() : null;
+        if (PayaraExecutionSettings.isTerminalEnabled(project)) {
+            if (build == null) {
+                executeCommand(microProject, tabName, command);
+                return;
             }
+            // the Terminal reports no completion, the war is completed from the previous build
+            ApplicationManager.getApplication().executeOnPooledThread(() -> {
+                microProject.completeBuild();
+                ApplicationManager.getApplication().invokeLater(
+                        () -> executeCommand(microProject, tabName, build.then(command)), project.getDisposed());
+            });
+            return;
         }
-        return null;
-    }
-
-    public void executeCommand(JBTerminalWidget widget, String command) {
-        try {
-            widget.setRequestFocusEnabled(true);
-            widget.requestFocusInWindow();
-            widget.requestFocus(true);
-            widget.requestFocus();
-            widget.grabFocus();
-            TtyConnector connector = widget.getTtyConnector();
-            if (connector != null) {
-                connector.write(command);
-                connector.write(widget.getTerminalStarter().getCode(KeyEvent.VK_ENTER, 0));
-            } else if (widget instanceof ShellTerminalWidget) {
-                ((ShellTerminalWidget) widget).executeCommand(command);
+        // a start holds the queue until the instance is ready, not only while it is launched
+        Predicate<String> readyLine = operation == Operation.START ? READY_LINE : null;
+        PayaraCommandScheduler.BuildStarter starter = fused -> {
+            PayaraExecution execution = executeCommand(microProject, tabName, fused);
+            if (execution == null) {
+                throw new ExecutionException("Unable to start " + fused);
             }
-        } catch (IOException ex) {
-            LOG.log(Level.SEVERE, null, ex);
+            return execution;
+        };
+        PayaraCommandScheduler scheduler = PayaraCommandScheduler.getInstance(project);
+        if (build != null) {
+            scheduler.scheduleBuild(operation, tabName, build, microProject::completeBuild, command, readyLine, starter);
+        } else {
+            scheduler.scheduleBuild(operation, tabName, command, readyLine, starter);
         }
     }
 }
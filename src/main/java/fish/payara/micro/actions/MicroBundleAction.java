@@ -16,10 +16,8 @@
  */
 package fish.payara.micro.actions;
 
-import com.intellij.terminal.JBTerminalWidget;
+import fish.payara.execution.ScheduledCommand.Operation;
 import fish.payara.micro.PayaraMicroProject;
-import static java.util.logging.Level.WARNING;
-import java.util.logging.Logger;
 
 /**
  *
@@ -27,18 +25,9 @@ import java.util.logging.Logger;
  */
 public class MicroBundleAction extends MicroAction {
 
-    private static final Logger LOG = Logger.getLogger(MicroBundleAction.class.getName());
-
     @Override
     public void onAction(PayaraMicroProject project) {
-        String projectName;
-        projectName = project.getProjectName();
-        JBTerminalWidget terminal = getTerminal(project.getProject(), projectName);
-        if (terminal != null) {
-            executeCommand(terminal, project.getBundleCommand());
-        } else {
-            LOG.log(WARNING, "Shell window for {0} is not available.", projectName);
-        }
+        scheduleCommand(project, Operation.BUNDLE, project.getProjectName(), project.getBundleCommand());
     }
 
 }
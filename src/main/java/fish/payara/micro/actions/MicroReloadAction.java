@@ -16,15 +16,23 @@
  */
 package fish.payara.micro.actions;
 
+import com.intellij.debugger.impl.DebuggerSession;
 import com.intellij.notification.Notification;
 import com.intellij.notification.NotificationListener;
 import com.intellij.notification.NotificationType;
 import com.intellij.notification.Notifications;
-import com.intellij.terminal.JBTerminalWidget;
+import com.intellij.openapi.application.ApplicationManager;
+import fish.payara.PayaraBundle;
 import fish.payara.PayaraConstants;
+import fish.payara.execution.BuildCommand;
+import fish.payara.execution.PayaraCommandExecutor;
+import fish.payara.execution.PayaraCommandScheduler;
+import fish.payara.execution.PayaraExecution;
+import fish.payara.execution.ScheduledCommand.Operation;
+import fish.payara.micro.DebuggerManager;
+import fish.payara.micro.ExplodedSync;
+import fish.payara.micro.HotSwapProcessHandler;
 import fish.payara.micro.PayaraMicroProject;
-import java.util.logging.Logger;
-import static java.util.logging.Level.WARNING;
 
 /**
  *
@@ -32,20 +40,55 @@ import static java.util.logging.Level.WARNING;
  */
 public class MicroReloadAction extends MicroAction {
 
-    private static final Logger LOG = Logger.getLogger(MicroReloadAction.class.getName());
+    /**
+     * Reload is only functional for exploded war artifacts.
+     */
+    @Override
+    protected boolean isAvailable(PayaraMicroProject project) {
+        return project.isExploded();
+    }
 
+    /**
+     * Redefines the changed classes through the debug session attached to
+     * the instance, and runs the regular reload only if they can not be
+     * hot swapped.
+     */
     @Override
     public void onAction(PayaraMicroProject project) {
-        try {
-            String projectName = project.getProjectName();
-            String command = project.getReloadCommand();
+        DebuggerSession session = DebuggerManager.findSession(project.getProject());
+        if (session == null || !project.isExploded()) {
+            reload(project);
+            return;
+        }
+        String name = project.getProjectName();
+        PayaraCommandScheduler.getInstance(project.getProject()).schedule(Operation.RELOAD, name, project.getReloadCommand(),
+                () -> {
+                    PayaraExecution execution = PayaraCommandExecutor.getInstance(project.getProject()).execute(name,
+                            PayaraBundle.message("HotSwap.command"),
+                            new HotSwapProcessHandler(project, session));
+                    execution.getExitCode().thenAccept(exitCode -> {
+                        if (exitCode == HotSwapProcessHandler.FALLBACK) {
+                            ApplicationManager.getApplication().invokeLater(() -> reload(project),
+                                    project.getProject().getDisposed());
+                        }
+                    });
+                    return execution;
+                });
+    }
 
-            JBTerminalWidget terminal = getTerminal(project.getProject(), projectName);
-            if (terminal != null) {
-                executeCommand(terminal, command);
-            } else {
-                LOG.log(WARNING, "Shell window for {0} is not available.", projectName);
+    private void reload(PayaraMicroProject project) {
+        try {
+            BuildCommand reloadCommand = project.getReloadCommand();
+            if (ExplodedSync.isAvailable(project)) {
+                // the IDE compiler output is copied, no build tool is run
+                String name = project.getProjectName();
+                PayaraCommandScheduler.getInstance(project.getProject()).schedule(Operation.RELOAD, name, reloadCommand,
+                        () -> PayaraCommandExecutor.getInstance(project.getProject()).execute(name,
+                                PayaraBundle.message("ExplodedSync.command", project.getExplodedDirectory()),
+                                ExplodedSync.createProcessHandler(project)));
+                return;
             }
+            scheduleCommand(project, Operation.RELOAD, project.getProjectName(), reloadCommand);
         } catch (IllegalStateException ise) {
             Notifications.Bus.notify(
                     new Notification(
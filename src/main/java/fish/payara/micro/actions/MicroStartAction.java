@@ -16,31 +16,18 @@
  */
 package fish.payara.micro.actions;
 
-import com.intellij.terminal.JBTerminalWidget;
+import fish.payara.execution.ScheduledCommand.Operation;
 import fish.payara.micro.PayaraMicroProject;
 
-import java.util.logging.Logger;
-
-import static java.util.logging.Level.WARNING;
-
 /**
  *
  * @author gaurav.gupta@payara.fish
  */
 public class MicroStartAction extends MicroAction {
 
-    private static final Logger LOG = Logger.getLogger(MicroStartAction.class.getName());
-
     @Override
     public void onAction(PayaraMicroProject project) {
-        String projectName;
-        projectName = project.getProjectName();
-        JBTerminalWidget terminal = getTerminal(project.getProject(), projectName + " instance");
-        if (terminal != null) {
-            executeCommand(terminal, project.getStartCommand(false));
-        } else {
-            LOG.log(WARNING, "Shell window for {0} is not available.", projectName);
-        }
+        scheduleCommand(project, Operation.START, project.getProjectName() + " instance", project.getStartCommand(false));
     }
 
 }
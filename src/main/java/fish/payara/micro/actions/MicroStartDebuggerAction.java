@@ -16,11 +16,9 @@
  */
 package fish.payara.micro.actions;
 
-import com.intellij.terminal.JBTerminalWidget;
 import fish.payara.micro.DebuggerManager;
+import fish.payara.execution.ScheduledCommand.Operation;
 import fish.payara.micro.PayaraMicroProject;
-import java.util.logging.Logger;
-import static java.util.logging.Level.WARNING;
 
 /**
  *
@@ -28,19 +26,10 @@ import static java.util.logging.Level.WARNING;
  */
 public class MicroStartDebuggerAction extends MicroAction {
 
-    private static final Logger LOG = Logger.getLogger(MicroStartDebuggerAction.class.getName());
-
     @Override
     public void onAction(PayaraMicroProject project) {
-        String projectName;
-        projectName = project.getProjectName();
         DebuggerManager.connect(project.getProject());
-        JBTerminalWidget terminal = getTerminal(project.getProject(), projectName + " instance");
-        if (terminal != null) {
-            executeCommand(terminal, project.getStartCommand(true));
-        } else {
-            LOG.log(WARNING, "Shell window for {0} is not available.", projectName);
-        }
+        scheduleCommand(project, Operation.START, project.getProjectName() + " instance", project.getStartCommand(true));
     }
 
 }
@@ -16,10 +16,13 @@
  */
 package fish.payara.micro.actions;
 
-import com.intellij.terminal.JBTerminalWidget;
+import fish.payara.execution.PayaraCommandExecutor;
+import fish.payara.execution.PayaraCommandScheduler;
+import fish.payara.execution.PayaraExecution;
+import fish.payara.execution.PayaraExecutionSettings;
+import fish.payara.execution.ScheduledCommand.Operation;
 import fish.payara.micro.PayaraMicroProject;
-import static java.util.logging.Level.WARNING;
-import java.util.logging.Logger;
+import fish.payara.micro.maven.MicroMavenProject;
 
 /**
  *
@@ -27,18 +30,23 @@ import java.util.logging.Logger;
  */
 public class MicroStopAction extends MicroAction {
 
-    private static final Logger LOG = Logger.getLogger(MicroStopAction.class.getName());
-
     @Override
     public void onAction(PayaraMicroProject project) {
-        String projectName;
-        projectName = project.getProjectName();
-        JBTerminalWidget terminal = getTerminal(project.getProject(), projectName);
-        if (terminal != null) {
-            executeCommand(terminal, project.getStopCommand());
-        } else {
-            LOG.log(WARNING, "Shell window for {0} is not available.", projectName);
+        if (PayaraExecutionSettings.isInProcessEnabled(project.getProject())
+                && project instanceof MicroMavenProject) {
+            // ask the instance started from the IDE to shut down without booting Maven
+            PayaraExecution instance = PayaraCommandExecutor.getInstance(project.getProject())
+                    .getExecution(project.getProjectName() + " instance");
+            if (instance != null) {
+                PayaraCommandScheduler.getInstance(project.getProject())
+                        .schedule(Operation.STOP, project.getProjectName(), project.getStopCommand(), () -> {
+                            instance.cancel();
+                            return null;
+                        });
+                return;
+            }
         }
+        scheduleCommand(project, Operation.STOP, project.getProjectName(), project.getStopCommand());
     }
 
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.micro.actions;
+
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.ToggleAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.wm.impl.status.widget.StatusBarWidgetsManager;
+import fish.payara.execution.PayaraExecutionSettings;
+import fish.payara.micro.MicroReloadWatcher;
+import fish.payara.micro.MicroReloadWidgetFactory;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Reloads the exploded Micro application when its sources are saved.
+ */
+public class MicroWatchToggleAction extends ToggleAction {
+
+    @Override
+    public boolean isSelected(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        return project != null && PayaraExecutionSettings.isWatchEnabled(project);
+    }
+
+    @Override
+    public void setSelected(@NotNull AnActionEvent e, boolean state) {
+        Project project = e.getProject();
+        if (project == null) {
+            return;
+        }
+        PayaraExecutionSettings.setWatchEnabled(project, state);
+        if (state) {
+            MicroReloadWatcher.getInstance(project).start();
+        } else {
+            MicroReloadWatcher.getInstance(project).stop();
+        }
+        project.getService(StatusBarWidgetsManager.class).updateWidget(MicroReloadWidgetFactory.class);
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
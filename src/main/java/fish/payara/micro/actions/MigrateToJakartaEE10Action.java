@@ -1,11 +1,15 @@
 package fish.payara.micro.actions;
 
 import com.intellij.ide.impl.ProjectUtil;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.CommonDataKeys;
 import com.intellij.openapi.actionSystem.PlatformDataKeys;
 import com.intellij.openapi.fileChooser.FileChooser;
 import com.intellij.openapi.fileChooser.FileChooserDescriptor;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
 import com.intellij.openapi.vfs.VfsUtil;
@@ -13,9 +17,14 @@ import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.GlobalSearchScope;
-import com.intellij.terminal.JBTerminalWidget;
+import fish.payara.PayaraBundle;
+import fish.payara.execution.BuildCommand;
+import fish.payara.execution.PayaraExecution;
+import fish.payara.execution.PayaraExecutionSettings;
+import fish.payara.execution.TerminalSessionPool;
 import fish.payara.micro.PayaraMicroProject;
 import fish.payara.micro.maven.MicroMavenProject;
+import fish.payara.util.EdtWatchdog;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
@@ -43,51 +52,86 @@ public class MigrateToJakartaEE10Action extends MicroAction {
                         "Choose the New File Destination Folder");
         VirtualFile destFolder = FileChooser.chooseFile(fileDescriptor, actionEvent.getProject(), srcFile);
         assert destFolder != null;
-        String destinationPath = getDestinationPath(destFolder, srcFile);
 
         final Project project = CommonDataKeys.PROJECT.getData(actionEvent.getDataContext());
         assert project != null;
-        PsiFile[] poms = FilenameIndex.getFilesByName(project, "pom.xml", GlobalSearchScope.projectScope(project));
-        PayaraMicroProject microProject = new MicroMavenProject(project, poms[0]);
+        new Task.Backgroundable(project, PayaraBundle.message("MicroAction.task.title"), true) {
+
+            private PayaraMicroProject microProject;
+            private String destinationPath;
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                destinationPath = getDestinationPath(destFolder, srcFile);
+                PsiFile[] poms = ReadAction.compute(
+                        () -> FilenameIndex.getFilesByName(project, "pom.xml", GlobalSearchScope.projectScope(project))
+                );
+                indicator.checkCanceled();
+                microProject = new MicroMavenProject(project, poms[0]);
+            }
+
+            @Override
+            public void onSuccess() {
+                EdtWatchdog.run(MigrateToJakartaEE10Action.class.getSimpleName(),
+                        () -> transform(project, microProject, srcFile, destinationPath));
+                // modal, so kept out of the measured block
+                Messages.showMessageDialog(
+                        "Generating: " + destinationPath,
+                        "Confirmation",
+                        Messages.getInformationIcon());
+            }
+        }.queue();
+    }
+
+    private void transform(Project project, PayaraMicroProject microProject, VirtualFile srcFile, String destinationPath) {
         String projectName = project.getName();
-        JBTerminalWidget terminal = getTerminal(project, projectName);
-        if (terminal != null) {
-            Messages.showMessageDialog(
-                    "Generating: " + destinationPath,
-                    "Confirmation",
-                    Messages.getInformationIcon());
-            final int TIME_OUT = 60 * 5;
-            executorService.execute(() -> {
-                executeCommand(terminal, microProject.getTransformCommand(quoteIt(srcFile.getPath()), quoteIt(destinationPath)));
-            });
-            executorService.execute(() -> {
-                Path file = Paths.get(destinationPath);
-                int count = 1;
-                while (!Files.exists(file)) {
-                    try {
-                        Thread.sleep(1000);
-                    } catch (InterruptedException e) {
-                        LOG.log(WARNING, e.getMessage(), projectName);
-                    }
-                    if (++count > TIME_OUT) {
-                        String message = "Transformation aborted after 5 minutes";
-                        LOG.log(WARNING, message, projectName);
-                        throw new RuntimeException(message);
-                    }
-                }
-                if (srcFile.isDirectory()) {
-                    ProjectUtil.openOrImport(destinationPath, project, true);
+        BuildCommand command = microProject.getTransformCommand(srcFile.getPath(), destinationPath);
+        if (PayaraExecutionSettings.isTerminalEnabled(project)) {
+            transformInTerminal(project, command.toString(), srcFile, destinationPath);
+            return;
+        }
+        PayaraExecution execution = executeCommand(microProject, projectName, command);
+        if (execution != null) {
+            execution.getExitCode().thenAccept(exitCode -> {
+                if (exitCode == 0) {
+                    openDestination(project, srcFile, Paths.get(destinationPath));
                 } else {
-                    VfsUtil.findFile(file, true);
+                    LOG.log(WARNING, "Transformation of {0} failed with exit code {1}", new Object[]{srcFile.getPath(), exitCode});
                 }
             });
-        } else {
-            LOG.log(WARNING, "Shell window for {0} is not available.", projectName);
         }
     }
 
-    private String quoteIt(String path) {
-        return "'" + path + "'";
+    private void transformInTerminal(Project project, String command, VirtualFile srcFile, String destinationPath) {
+        String projectName = project.getName();
+        final int TIME_OUT = 60 * 5;
+        TerminalSessionPool.getInstance(project).execute(projectName, command)
+                .thenRunAsync(() -> {
+                    Path file = Paths.get(destinationPath);
+                    int count = 1;
+                    while (!Files.exists(file)) {
+                        try {
+                            Thread.sleep(1000);
+                        } catch (InterruptedException e) {
+                            LOG.log(WARNING, e.getMessage(), projectName);
+                        }
+                        if (++count > TIME_OUT) {
+                            String message = "Transformation aborted after 5 minutes";
+                            LOG.log(WARNING, message, projectName);
+                            throw new RuntimeException(message);
+                        }
+                    }
+                    openDestination(project, srcFile, file);
+                }, executorService);
+    }
+
+    private void openDestination(Project project, VirtualFile srcFile, Path file) {
+        if (srcFile.isDirectory()) {
+            ApplicationManager.getApplication().invokeLater(
+                    () -> ProjectUtil.openOrImport(file.toString(), project, true));
+        } else {
+            VfsUtil.findFile(file, true);
+        }
     }
 
     @NotNull
@@ -109,7 +153,7 @@ public class MigrateToJakartaEE10Action extends MicroAction {
     public void onAction(PayaraMicroProject project) {}
 
     @Override
-    public void update(AnActionEvent e) {
+    public void update(@NotNull AnActionEvent e) {
         VirtualFile file = PlatformDataKeys.VIRTUAL_FILE.getData(e.getDataContext());
         e.getPresentation().setEnabledAndVisible(file != null && (
                 !file.isDirectory() || isRoot(file, e.getProject()) || "src".equals(file.getName())));
@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.micro.gradle;
+
+import com.intellij.openapi.util.Key;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lexer and parser for the parts of the Gradle Groovy and Kotlin DSL the
+ * plugin relies on: the Payara Micro Gradle plugin declaration, the
+ * properties of the {@code payaraMicro} extension and the root project name
+ * of the settings file.
+ * <p>
+ * Comments and string literals are tokenized, so the plugin id in a comment
+ * or a brace in a string does not affect the result, and nested blocks inside
+ * the extension are skipped. Results are cached on the {@link VirtualFile} by
+ * modification stamp.
+ */
+public final class GradleBuildParser {
+
+    private static final Key<Cached<GradleBuild>> BUILD_KEY = Key.create("fish.payara.gradle.build");
+    private static final Key<Cached<String>> SETTINGS_KEY = Key.create("fish.payara.gradle.settings");
+
+    private static final String EXTENSION = "payaraMicro";
+    private static final String EXTENSION_TYPE = "PayaraMicroExtension";
+    private static final String CONFIGURE = "configure";
+    private static final String ROOT_PROJECT = "rootProject";
+    private static final String NAME = "name";
+    private static final String SET = "set";
+
+    private GradleBuildParser() {
+    }
+
+    /**
+     * @param buildFile the build.gradle or build.gradle.kts file
+     * @return the parsed build file, cached until the file changes
+     * @throws IOException if the file is not readable
+     */
+    @NotNull
+    public static GradleBuild parseBuild(@NotNull VirtualFile buildFile) throws IOException {
+        Cached<GradleBuild> cached = buildFile.getUserData(BUILD_KEY);
+        long stamp = buildFile.getModificationStamp();
+        if (cached == null || cached.stamp != stamp) {
+            cached = new Cached<>(stamp, parseBuild(VfsUtilCore.loadText(buildFile)));
+            buildFile.putUserData(BUILD_KEY, cached);
+        }
+        return cached.value;
+    }
+
+    /**
+     * @param content the build.gradle or build.gradle.kts content
+     * @return the parsed build file
+     */
+    @NotNull
+    public static GradleBuild parseBuild(@NotNull CharSequence content) {
+        List<Token> tokens = new Lexer(content).tokenize();
+        boolean pluginDeclared = false;
+        Map<String, String> extension = new HashMap<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            if (token.type == TokenType.STRING) {
+                pluginDeclared |= token.text.contains(GradleProject.MICRO_PLUGIN_ID)
+                        || token.text.contains(GradleProject.MICRO_ARTIFACT_ID);
+            } else if (token.isIdentifier(EXTENSION)) {
+                if (isSymbol(tokens, i + 1, '{')) {
+                    i = parseBlock(tokens, i + 2, extension);
+                } else if (isSymbol(tokens, i + 1, '.')) {
+                    // payaraMicro.property = value
+                    parseProperty(tokens, i + 2, extension);
+                }
+            } else if (token.isIdentifier(CONFIGURE) && isSymbol(tokens, i + 1, '<')) {
+                // Kotlin DSL configure<PayaraMicroExtension> { ... }
+                int end = i + 2;
+                while (end < tokens.size() && !isSymbol(tokens, end, '>')) {
+                    end++;
+                }
+                if (end > i + 2 && tokens.get(end - 1).text.endsWith(EXTENSION_TYPE)
+                        && isSymbol(tokens, end + 1, '{')) {
+                    i = parseBlock(tokens, end + 2, extension);
+                }
+            }
+        }
+        return new GradleBuild(pluginDeclared, extension);
+    }
+
+    /**
+     * @param settingsFile the settings.gradle or settings.gradle.kts file
+     * @return the root project name, cached until the file changes, or null
+     * if not defined
+     * @throws IOException if the file is not readable
+     */
+    @Nullable
+    public static String parseRootProjectName(@NotNull VirtualFile settingsFile) throws IOException {
+        Cached<String> cached = settingsFile.getUserData(SETTINGS_KEY);
+        long stamp = settingsFile.getModificationStamp();
+        if (cached == null || cached.stamp != stamp) {
+            cached = new Cached<>(stamp, parseRootProjectName(VfsUtilCore.loadText(settingsFile)));
+            settingsFile.putUserData(SETTINGS_KEY, cached);
+        }
+        return cached.value;
+    }
+
+    /**
+     * @param content the settings.gradle or settings.gradle.kts content
+     * @return the root project name or null if not defined
+     */
+    @Nullable
+    public static String parseRootProjectName(@NotNull CharSequence content) {
+        List<Token> tokens = new Lexer(content).tokenize();
+        for (int i = 0; i + 4 < tokens.size(); i++) {
+            if (tokens.get(i).isIdentifier(ROOT_PROJECT)
+                    && isSymbol(tokens, i + 1, '.')
+                    && tokens.get(i + 2).isIdentifier(NAME)
+                    && isSymbol(tokens, i + 3, '=')
+                    && tokens.get(i + 4).type == TokenType.STRING) {
+                return tokens.get(i + 4).text;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Read the properties of a block up to its closing brace, skipping the
+     * nested blocks.
+     *
+     * @return the index of the closing brace
+     */
+    private static int parseBlock(List<Token> tokens, int start, Map<String, String> properties) {
+        int depth = 1;
+        int i = start;
+        boolean statementStart = true;
+        while (i < tokens.size()) {
+            Token token = tokens.get(i);
+            if (token.isSymbol('{')) {
+                depth++;
+            } else if (token.isSymbol('}')) {
+                depth--;
+                if (depth == 0) {
+                    return i;
+                }
+            } else if (depth == 1 && statementStart && token.type == TokenType.IDENTIFIER) {
+                parseProperty(tokens, i, properties);
+            }
+            Token next = i + 1 < tokens.size() ? tokens.get(i + 1) : null;
+            statementStart = next == null || next.line != token.line || token.isSymbol(';')
+                    || token.isSymbol('{') || token.isSymbol('}');
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Read a property assignment starting at its name, in any of the
+     * {@code name = value}, {@code name value}, {@code name(value)} and
+     * {@code name.set(value)} forms.
+     */
+    private static void parseProperty(List<Token> tokens, int start, Map<String, String> properties) {
+        if (start >= tokens.size() || tokens.get(start).type != TokenType.IDENTIFIER) {
+            return;
+        }
+        Token name = tokens.get(start);
+        int i = start + 1;
+        if (isSymbol(tokens, i, '=')) {
+            i++;
+        } else if (isSymbol(tokens, i, '(')) {
+            i++;
+        } else if (isSymbol(tokens, i, '.') && i + 2 < tokens.size()
+                && tokens.get(i + 1).isIdentifier(SET) && isSymbol(tokens, i + 2, '(')) {
+            i += 3;
+        } else if (i < tokens.size() && tokens.get(i).line != name.line) {
+            return;
+        }
+        if (i < tokens.size() && tokens.get(i).isValue()) {
+            properties.put(name.text, tokens.get(i).text);
+        }
+    }
+
+    private static boolean isSymbol(List<Token> tokens, int index, char symbol) {
+        return index < tokens.size() && tokens.get(index).isSymbol(symbol);
+    }
+
+    /**
+     * Payara Micro Gradle plugin declaration and extension properties of a
+     * build file.
+     */
+    public static final class GradleBuild {
+
+        private final boolean pluginDeclared;
+        private final Map<String, String> extension;
+
+        private GradleBuild(boolean pluginDeclared, Map<String, String> extension) {
+            this.pluginDeclared = pluginDeclared;
+            this.extension = Collections.unmodifiableMap(extension);
+        }
+
+        public boolean isPluginDeclared() {
+            return pluginDeclared;
+        }
+
+        /**
+         * @return the properties of the payaraMicro extension, string
+         * literals without quotes
+         */
+        public Map<String, String> getExtension() {
+            return extension;
+        }
+    }
+
+    private static final class Cached<T> {
+
+        private final long stamp;
+        private final T value;
+
+        private Cached(long stamp, T value) {
+            this.stamp = stamp;
+            this.value = value;
+        }
+    }
+
+    private enum TokenType {
+        IDENTIFIER, STRING, NUMBER, SYMBOL
+    }
+
+    private static final class Token {
+
+        private final TokenType type;
+        private final String text;
+        private final int line;
+
+        private Token(TokenType type, String text, int line) {
+            this.type = type;
+            this.text = text;
+            this.line = line;
+        }
+
+        private boolean isIdentifier(String name) {
+            return type == TokenType.IDENTIFIER && text.equals(name);
+        }
+
+        private boolean isSymbol(char symbol) {
+            return type == TokenType.SYMBOL && text.charAt(0) == symbol;
+        }
+
+        private boolean isValue() {
+            return type != TokenType.SYMBOL;
+        }
+    }
+
+    private static final class Lexer {
+
+        private final CharSequence content;
+        private final int length;
+        private final List<Token> tokens = new ArrayList<>();
+        private int position;
+        private int line;
+
+        private Lexer(CharSequence content) {
+            this.content = content;
+            this.length = content.length();
+        }
+
+        private List<Token> tokenize() {
+            while (position < length) {
+                char c = content.charAt(position);
+                if (c == '\n') {
+                    line++;
+                    position++;
+                } else if (Character.isWhitespace(c)) {
+                    position++;
+                } else if (c == '/' && peek(1) == '/') {
+                    skipLineComment();
+                } else if (c == '/' && peek(1) == '*') {
+                    skipBlockComment();
+                } else if (c == '"' || c == '\'') {
+                    int startLine = line;
+                    tokens.add(new Token(TokenType.STRING, readString(c), startLine));
+                } else if (Character.isJavaIdentifierStart(c)) {
+                    tokens.add(new Token(TokenType.IDENTIFIER, readWhile(true), line));
+                } else if (Character.isDigit(c)) {
+                    tokens.add(new Token(TokenType.NUMBER, readWhile(false), line));
+                } else {
+                    tokens.add(new Token(TokenType.SYMBOL, String.valueOf(c), line));
+                    position++;
+                }
+            }
+            return tokens;
+        }
+
+        private char peek(int offset) {
+            int index = position + offset;
+            return index < length ? content.charAt(index) : 0;
+        }
+
+        private void skipLineComment() {
+            while (position < length && content.charAt(position) != '\n') {
+                position++;
+            }
+        }
+
+        private void skipBlockComment() {
+            position += 2;
+            while (position < length && !(content.charAt(position) == '*' && peek(1) == '/')) {
+                if (content.charAt(position) == '\n') {
+                    line++;
+                }
+                position++;
+            }
+            position = Math.min(position + 2, length);
+        }
+
+        private String readWhile(boolean identifier) {
+            int start = position;
+            while (position < length) {
+                char c = content.charAt(position);
+                if (identifier ? !Character.isJavaIdentifierPart(c) : !(Character.isLetterOrDigit(c) || c == '.' || c == '_')) {
+                    break;
+                }
+                position++;
+            }
+            return content.subSequence(start, position).toString();
+        }
+
+        /**
+         * Read a single or triple quoted string literal, including the
+         * {@code ${...}} templates of double quoted strings.
+         *
+         * @return the string content without quotes
+         */
+        private String readString(char quote) {
+            boolean triple = peek(1) == quote && peek(2) == quote;
+            position += triple ? 3 : 1;
+            StringBuilder text = new StringBuilder();
+            while (position < length) {
+                char c = content.charAt(position);
+                if (c == '\\' && position + 1 < length) {
+                    text.append(content.charAt(position + 1));
+                    position += 2;
+                    continue;
+                }
+                if (c == quote && (!triple || (peek(1) == quote && peek(2) == quote))) {
+                    position += triple ? 3 : 1;
+                    break;
+                }
+                if (c == '\n') {
+                    if (!triple) {
+                        // unterminated literal
+                        break;
+                    }
+                    line++;
+                }
+                if (c == '$' && quote == '"' && peek(1) == '{') {
+                    int start = position;
+                    skipTemplate();
+                    text.append(content, start, position);
+                    continue;
+                }
+                text.append(c);
+                position++;
+            }
+            return text.toString();
+        }
+
+        private void skipTemplate() {
+            position += 2;
+            int depth = 1;
+            while (position < length && depth > 0) {
+                char c = content.charAt(position);
+                if (c == '"' || c == '\'') {
+                    readString(c);
+                    continue;
+                }
+                if (c == '{') {
+                    depth++;
+                } else if (c == '}') {
+                    depth--;
+                } else if (c == '\n') {
+                    line++;
+                }
+                position++;
+            }
+        }
+    }
+}
@@ -16,22 +16,24 @@
  */
 package fish.payara.micro.gradle;
 
+import com.intellij.openapi.application.ReadAction;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.GlobalSearchScope;
 import static fish.payara.PayaraConstants.DEFAULT_DEBUG_PORT;
+import fish.payara.execution.BuildCommand;
 import fish.payara.micro.PayaraMicroProject;
-import java.io.File;
-import java.io.FileInputStream;
+import fish.payara.project.PayaraPluginIndex;
+import fish.payara.micro.gradle.GradleBuildParser.GradleBuild;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.Properties;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import static java.util.logging.Level.SEVERE;
 
@@ -43,190 +45,171 @@ public class GradleProject extends PayaraMicroProject {
 
     private static final Logger LOG = Logger.getLogger(GradleProject.class.getName());
 
-    private static final String MICRO_PLUGIN_ID = "fish.payara.micro-gradle-plugin";
-    private static final String MICRO_ARTIFACT_ID = "payara-micro-gradle-plugin";
+    public static final String MICRO_PLUGIN_ID = "fish.payara.micro-gradle-plugin";
+    public static final String MICRO_ARTIFACT_ID = "payara-micro-gradle-plugin";
     public static final String START_GOAL = "microStart";
     private static final String RELOAD_GOAL = "microReload";
     private static final String STOP_GOAL = "microStop";
     private static final String BUNDLE_GOAL = "microBundle";
     private static final String WAR_EXPLODE_GOAL = "warExplode";
+    private static final String EXPLODED_DIR = "build/libs/exploded";
     public static final String BUILD_GOAL = "build";
     public static final String DEBUG_PROPERTY_NAME = "-DpayaraMicro.debug";
     public static final String DEBUG_PROPERTY = DEBUG_PROPERTY_NAME + "=-agentlib:jdwp=transport=dt_socket,server=n,suspend=n,address=%s";
-    private static final String SETTINGS_FILE = "settings.gradle";
-    private static final String ROOT_PROJECT_NAME = "rootProject.name";
-    private static final String BUILD_FILE = "build.gradle";
-    private static final String USE_UBER_JAR = "useUberJar";
-    private static final String EXPLODED = "exploded";
+    private static final List<String> SETTINGS_FILES = List.of("settings.gradle", "settings.gradle.kts");
+    private static final List<String> BUILD_FILES = List.of("build.gradle", "build.gradle.kts");
+    public static final String USE_UBER_JAR = "useUberJar";
+    public static final String EXPLODED = "exploded";
     private static final String EXPLODED_PROPERTY = "-DpayaraMicro.exploded=true";
     public static final String DEPLOY_WAR_PROPERTY = "-DpayaraMicro.deployWar=true";
 
     private boolean useUberJar, exploded;
 
     @Override
-    public String getStartCommand(boolean debug) {
-        String cmd;
+    public BuildCommand getStartCommand(boolean debug) {
+        BuildCommand cmd;
         if (useUberJar) {
             cmd = getStartUberJarCommand();
         } else if (exploded) {
             cmd = getStartExplodedWarCommand();
         } else {
-            cmd = String.format("gradle %s %s %s",
-                    BUILD_GOAL,
-                    START_GOAL,
-                    DEPLOY_WAR_PROPERTY
-            );
+            cmd = BuildCommand.gradle(BUILD_GOAL, START_GOAL)
+                    .withDefinition(DEPLOY_WAR_PROPERTY)
+                    .blocking();
         }
-        return debug ? cmd + ' ' + String.format(DEBUG_PROPERTY, DEFAULT_DEBUG_PORT) : cmd;
+        return debug ? cmd.withDefinition(String.format(DEBUG_PROPERTY, DEFAULT_DEBUG_PORT)) : cmd;
     }
 
-    public String getStartUberJarCommand() {
-        return String.format("gradle %s %s",
-                BUNDLE_GOAL,
-                START_GOAL
-        );
+    public BuildCommand getStartUberJarCommand() {
+        return getBundleCommand().then(BuildCommand.gradle(START_GOAL).blocking());
     }
 
-    public String getStartExplodedWarCommand() {
-        return String.format("gradle %s %s %s %s",
-                WAR_EXPLODE_GOAL,
-                START_GOAL,
-                DEPLOY_WAR_PROPERTY,
-                EXPLODED_PROPERTY
-        );
+    public BuildCommand getStartExplodedWarCommand() {
+        return BuildCommand.gradle(WAR_EXPLODE_GOAL)
+                .then(BuildCommand.gradle(START_GOAL).blocking())
+                .withDefinition(DEPLOY_WAR_PROPERTY)
+                .withDefinition(EXPLODED_PROPERTY);
     }
 
     @Override
-    public String getReloadCommand() {
+    public boolean isExploded() {
+        return exploded;
+    }
+
+    @Override
+    public BuildCommand getReloadCommand() {
         if (!exploded) {
             throw new IllegalStateException("Reload task is only functional for exploded war artifacts.");
         }
-        return String.format("gradle %s %s",
-                WAR_EXPLODE_GOAL,
-                RELOAD_GOAL
-        );
+        return BuildCommand.gradle(WAR_EXPLODE_GOAL).then(BuildCommand.gradle(RELOAD_GOAL));
+    }
+
+    /**
+     * @return the single directory of {@code build/libs/exploded} written by
+     * the warExplode task, null if not exploded yet
+     */
+    @Override
+    public Path getExplodedDirectory() {
+        VirtualFile buildFile = getBuildFile().getVirtualFile();
+        if (buildFile == null || !buildFile.isInLocalFileSystem()) {
+            return null;
+        }
+        Path explodedRoot = buildFile.getParent().toNioPath().resolve(EXPLODED_DIR);
+        if (!Files.isDirectory(explodedRoot)) {
+            return null;
+        }
+        try (Stream<Path> children = Files.list(explodedRoot)) {
+            List<Path> directories = children.filter(Files::isDirectory).toList();
+            return directories.size() == 1 ? directories.get(0) : null;
+        } catch (IOException ex) {
+            LOG.log(SEVERE, explodedRoot.toString(), ex);
+            return null;
+        }
     }
 
     @Override
-    public String getStopCommand() {
-        return String.format("gradle %s",
-                STOP_GOAL
-        );
+    public BuildCommand getStopCommand() {
+        return BuildCommand.gradle(STOP_GOAL);
     }
 
     @Override
-    public String getBundleCommand() {
-        return String.format("gradle %s",
-                BUNDLE_GOAL
-        );
+    public BuildCommand getBundleCommand() {
+        return BuildCommand.gradle(BUNDLE_GOAL);
     }
 
     @Override
-    public String getTransformCommand(String srcPath, String targetPath) {
+    public BuildCommand getTransformCommand(String srcPath, String targetPath) {
         return null;
     }
 
     public static GradleProject getInstance(Project project) {
-        PsiFile buildFile = getBuildFile(project);
-        if (buildFile != null) {
-            return new GradleProject(project, buildFile);
+        Map<PsiFile, Map<String, String>> declarations = PayaraPluginIndex.getDeclarations(project, MICRO_ARTIFACT_ID);
+        if (declarations != null) {
+            return declarations.entrySet().stream()
+                    .findFirst()
+                    .map(declaration -> new GradleProject(project, declaration.getKey(), declaration.getValue()))
+                    .orElse(null);
+        }
+        // index is not ready yet, parse the build files
+        for (String buildFileName : BUILD_FILES) {
+            PsiFile[] buildFiles = ReadAction.compute(
+                    () -> FilenameIndex.getFilesByName(project, buildFileName, GlobalSearchScope.projectScope(project))
+            );
+            for (PsiFile buildFile : buildFiles) {
+                GradleBuild build = parseBuild(buildFile);
+                if (build != null && build.isPluginDeclared()) {
+                    return new GradleProject(project, buildFile, build.getExtension());
+                }
+            }
         }
         return null;
     }
 
-    private GradleProject(Project project, PsiFile buildFile) {
+    private GradleProject(Project project, PsiFile buildFile, Map<String, String> configuration) {
         super(project, buildFile);
-        parseBuildFile();
+        applyConfiguration(configuration);
     }
 
     /**
-     * @param project
-     * @return the build.gradle file
-     */
-    private static PsiFile getBuildFile(Project project) {
-        PsiFile[] buildFiles = FilenameIndex.getFilesByName(project, BUILD_FILE, GlobalSearchScope.projectScope(project));
-        for (PsiFile buildFile : buildFiles) {
-            if (isValidBuild(buildFile)) {
-                return buildFile;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * @return the project name from settings.properties file
+     * @return the project name from the settings.gradle or
+     * settings.gradle.kts file
      */
     @Override
     public String getProjectName() {
-        String projectName = null;
         VirtualFile parentFolder = super.getBuildFile().getVirtualFile().getParent();
-        File settingsFile = Paths.get(parentFolder.getPath(), SETTINGS_FILE).toFile();
-        if (settingsFile.exists()) {
-            try {
-                Properties prop = new Properties();
-                prop.load(new FileInputStream(settingsFile));
-                String name = prop.getProperty(ROOT_PROJECT_NAME);
-                if (name != null) {
-                    projectName = name.replaceAll("^[\"']+|[\"']+$", "");
+        for (String settingsFileName : SETTINGS_FILES) {
+            VirtualFile settingsFile = parentFolder.findChild(settingsFileName);
+            if (settingsFile != null) {
+                try {
+                    return GradleBuildParser.parseRootProjectName(settingsFile);
+                } catch (IOException ex) {
+                    LOG.log(SEVERE, settingsFile.getPath(), ex);
                 }
-            } catch (IOException ex) {
-                LOG.log(SEVERE, settingsFile.getPath(), ex);
             }
         }
-        return projectName;
+        return null;
     }
 
     /**
-     * @param buildFile the build.gradle file
-     * @return true if build.gradle file includes Payara Micro Gradle plugin
+     * @param buildFile the build.gradle or build.gradle.kts file
+     * @return the parsed build file or null if not readable
      */
-    private static boolean isValidBuild(PsiFile buildFile) {
-        try {
-            return Files.lines(Paths.get(buildFile.getVirtualFile().getPath()))
-                    .anyMatch(line -> line.contains(MICRO_PLUGIN_ID) || line.contains(MICRO_ARTIFACT_ID));
-        } catch (IOException ex) {
-            LOG.log(SEVERE, buildFile.getVirtualFile().getPath(), ex);
+    private static GradleBuild parseBuild(PsiFile buildFile) {
+        VirtualFile file = buildFile.getVirtualFile();
+        if (file == null) {
+            return null;
         }
-        return false;
-    }
-
-    /**
-     * Parse the build.gradle to read the configuration of Payara Micro Gradle
-     * plugin.
-     */
-    private void parseBuildFile() {
-        String content;
         try {
-            content = new String(
-                    Files.readAllBytes(
-                            Paths.get(
-                                    super.getBuildFile().getVirtualFile().getPath()
-                            )
-                    )
-            );
-            String regex = "(?<=payaraMicro)(\\s*\\{)([^\\}]+)(\\})";
-            final Pattern pattern = Pattern.compile(regex, Pattern.DOTALL);
-            Matcher matcher = pattern.matcher(content);
-            if (matcher.find()) {
-                for (String line : matcher.group(2).split("\n")) {
-                    if (line.contains(USE_UBER_JAR)) {
-                        useUberJar = getFlagPropertyValue(line, USE_UBER_JAR);
-                    }
-                    if (line.contains(EXPLODED)) {
-                        exploded = getFlagPropertyValue(line, EXPLODED);
-                    }
-                }
-            }
+            return GradleBuildParser.parseBuild(file);
         } catch (IOException ex) {
-            LOG.log(SEVERE, super.getBuildFile().getVirtualFile().getPath(), ex);
+            LOG.log(SEVERE, file.getPath(), ex);
         }
+        return null;
     }
 
-    private boolean getFlagPropertyValue(String line, String match) {
-        String[] pairs = line.split("=");
-        return pairs.length == 2
-                && pairs[0].trim().equals(match)
-                && pairs[1].trim().equals("true");
+    private void applyConfiguration(Map<String, String> configuration) {
+        useUberJar = Boolean.parseBoolean(configuration.get(USE_UBER_JAR));
+        exploded = Boolean.parseBoolean(configuration.get(EXPLODED));
     }
 
 }
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.micro.gradle;
+
+import com.intellij.execution.process.ProcessHandler;
+import com.intellij.execution.process.ProcessOutputTypes;
+import com.intellij.openapi.util.Key;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.gradle.tooling.BuildCancelledException;
+import org.gradle.tooling.BuildLauncher;
+import org.gradle.tooling.CancellationTokenSource;
+import org.gradle.tooling.GradleConnectionException;
+import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.ProjectConnection;
+import org.gradle.tooling.ResultHandler;
+import org.gradle.tooling.events.FinishEvent;
+import org.gradle.tooling.events.OperationType;
+import org.gradle.tooling.events.ProgressEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Runs Gradle tasks through a Tooling API connection behind the process
+ * handler interface, so the build gets a regular console: the output and the
+ * finished tasks are streamed into it and stopping it cancels the build.
+ */
+final class GradleTaskProcessHandler extends ProcessHandler {
+
+    private static final int SUCCESS = 0;
+    private static final int FAILURE = 1;
+
+    private final BuildLauncher launcher;
+    private final CancellationTokenSource cancellation = GradleConnector.newCancellationTokenSource();
+    private final TextOutputStream stdout = new TextOutputStream(ProcessOutputTypes.STDOUT);
+    private final TextOutputStream stderr = new TextOutputStream(ProcessOutputTypes.STDERR);
+
+    /**
+     * @param javaHome the home of the JVM to run the build on, null for the
+     * Tooling API default
+     */
+    GradleTaskProcessHandler(@NotNull ProjectConnection connection, @NotNull List<String> tasks,
+            @NotNull List<String> arguments, @Nullable File javaHome) {
+        launcher = connection.newBuild()
+                .forTasks(tasks.toArray(String[]::new))
+                .withArguments(arguments)
+                .withCancellationToken(cancellation.token())
+                .setColorOutput(false)
+                .setStandardOutput(stdout)
+                .setStandardError(stderr)
+                .addProgressListener(this::onProgress, OperationType.TASK);
+        if (javaHome != null) {
+            launcher.setJavaHome(javaHome);
+        }
+    }
+
+    @Override
+    public void startNotify() {
+        super.startNotify();
+        launcher.run(new ResultHandler<>() {
+            @Override
+            public void onComplete(Void result) {
+                terminated(SUCCESS);
+            }
+
+            @Override
+            public void onFailure(GradleConnectionException failure) {
+                stdout.flush();
+                if (!(failure instanceof BuildCancelledException)) {
+                    notifyTextAvailable(failure.getMessage() + '\n', ProcessOutputTypes.STDERR);
+                }
+                terminated(FAILURE);
+            }
+        });
+    }
+
+    private void terminated(int exitCode) {
+        stdout.flush();
+        stderr.flush();
+        notifyProcessTerminated(exitCode);
+    }
+
+    private void onProgress(ProgressEvent event) {
+        if (event instanceof FinishEvent) {
+            notifyTextAvailable("> " + event.getDisplayName() + '\n', ProcessOutputTypes.SYSTEM);
+        }
+    }
+
+    @Override
+    protected void destroyProcessImpl() {
+        cancellation.cancel();
+    }
+
+    @Override
+    protected void detachProcessImpl() {
+        notifyProcessDetached();
+    }
+
+    @Override
+    public boolean detachIsDefault() {
+        return false;
+    }
+
+    @Nullable
+    @Override
+    public OutputStream getProcessInput() {
+        return null;
+    }
+
+    /**
+     * Forwards the build output to the console line by line, so multi-byte
+     * characters are never split.
+     */
+    private final class TextOutputStream extends OutputStream {
+
+        private final Key<?> outputType;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        private TextOutputStream(Key<?> outputType) {
+            this.outputType = outputType;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            line.write(b);
+            if (b == '\n') {
+                flush();
+            }
+        }
+
+        @Override
+        public synchronized void flush() {
+            if (line.size() > 0) {
+                notifyTextAvailable(line.toString(StandardCharsets.UTF_8), outputType);
+                line.reset();
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.micro.gradle;
+
+import com.intellij.execution.ExecutionException;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import fish.payara.execution.BuildCommand;
+import fish.payara.execution.PayaraCommandExecutor;
+import fish.payara.execution.PayaraExecution;
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import org.gradle.tooling.GradleConnector;
+import org.gradle.tooling.ProjectConnection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.gradle.util.GradleVersion;
+import org.jetbrains.plugins.gradle.service.GradleInstallationManager;
+import org.jetbrains.plugins.gradle.settings.DistributionType;
+import org.jetbrains.plugins.gradle.settings.GradleProjectSettings;
+import org.jetbrains.plugins.gradle.settings.GradleSettings;
+
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Runs the Gradle commands of a {@link GradleProject} through the
+ * Tooling API. The connection of each project directory is kept open for the
+ * lifetime of the IDE project, so repeated runs reuse the Gradle daemon
+ * without starting a new client. The builds run with the Gradle distribution,
+ * the Gradle user home and the Gradle JVM selected in the IDE Gradle settings,
+ * as an import or a Gradle run configuration would, so they share the daemons
+ * of the IDE.
+ */
+@Service(Service.Level.PROJECT)
+public final class GradleTaskRunner implements Disposable {
+
+    private static final Logger LOG = Logger.getLogger(GradleTaskRunner.class.getName());
+
+    private final Project project;
+
+    private final Map<Path, ProjectConnection> connections = new ConcurrentHashMap<>();
+
+    public GradleTaskRunner(@NotNull Project project) {
+        this.project = project;
+    }
+
+    public static GradleTaskRunner getInstance(@NotNull Project project) {
+        return project.getService(GradleTaskRunner.class);
+    }
+
+    /**
+     * Run the tasks, options and properties of a Gradle command in its own console.
+     *
+     * @param name the console name
+     * @param gradleProject the project
+     * @param command the Gradle command
+     * @return the started execution
+     * @throws ExecutionException if the command is not a Gradle command
+     */
+    @NotNull
+    public PayaraExecution execute(@NotNull String name, @NotNull GradleProject gradleProject, @NotNull BuildCommand command) throws ExecutionException {
+        if (command.getTool() != BuildCommand.Tool.GRADLE) {
+            throw new ExecutionException("Not a Gradle command: " + command);
+        }
+        List<String> arguments = new ArrayList<>(command.getOptions());
+        arguments.addAll(command.getDefinitions());
+        Path directory = getProjectDirectory(gradleProject);
+        GradleProjectSettings linked = findLinkedProject(directory);
+        ProjectConnection connection = getConnection(directory, linked);
+        return PayaraCommandExecutor.getInstance(project)
+                .execute(name, command.toString(), new GradleTaskProcessHandler(
+                        connection, command.getGoals(), arguments, getGradleJvm(linked)));
+    }
+
+    /**
+     * @param directory the Gradle project directory
+     * @return the settings of the innermost linked Gradle project containing
+     * the directory, null if not linked
+     */
+    @Nullable
+    private GradleProjectSettings findLinkedProject(Path directory) {
+        GradleProjectSettings linked = null;
+        for (GradleProjectSettings settings : GradleSettings.getInstance(project).getLinkedProjectsSettings()) {
+            Path root = Paths.get(settings.getExternalProjectPath());
+            // the innermost linked project wins
+            if (directory.startsWith(root)
+                    && (linked == null || root.startsWith(Paths.get(linked.getExternalProjectPath())))) {
+                linked = settings;
+            }
+        }
+        return linked;
+    }
+
+    /**
+     * @param linked the linked Gradle project or null
+     * @return the home of the Gradle JVM of the linked Gradle project, null
+     * to let the Tooling API pick one
+     */
+    @Nullable
+    private File getGradleJvm(@Nullable GradleProjectSettings linked) {
+        if (linked == null) {
+            return null;
+        }
+        try {
+            String javaHome = GradleInstallationManager.getInstance()
+                    .getGradleJvmPath(project, linked.getExternalProjectPath());
+            return javaHome != null ? new File(javaHome) : null;
+        } catch (RuntimeException ex) {
+            LOG.log(WARNING, "Unable to resolve the Gradle JVM of " + linked.getExternalProjectPath(), ex);
+            return null;
+        }
+    }
+
+    private static Path getProjectDirectory(GradleProject gradleProject) throws ExecutionException {
+        VirtualFile buildFile = gradleProject.getBuildFile().getVirtualFile();
+        VirtualFile directory = buildFile != null ? buildFile.getParent() : null;
+        if (directory == null || !directory.isInLocalFileSystem()) {
+            throw new ExecutionException("Gradle project directory is not available");
+        }
+        return directory.toNioPath();
+    }
+
+    /**
+     * The connection is opened with the distribution of the linked Gradle
+     * project and the Gradle user home of the IDE, the wrapper and the
+     * default user home otherwise.
+     */
+    private ProjectConnection getConnection(Path directory, @Nullable GradleProjectSettings linked) {
+        return connections.computeIfAbsent(directory, key -> {
+            GradleConnector connector = GradleConnector.newConnector().forProjectDirectory(key.toFile());
+            DistributionType distributionType = linked != null ? linked.getDistributionType() : null;
+            if (distributionType == DistributionType.LOCAL && linked.getGradleHome() != null) {
+                connector.useInstallation(new File(linked.getGradleHome()));
+            } else if (distributionType == DistributionType.BUNDLED) {
+                connector.useGradleVersion(GradleVersion.current().getVersion());
+            }
+            String serviceDirectory = GradleSettings.getInstance(project).getServiceDirectoryPath();
+            if (serviceDirectory != null && !serviceDirectory.isBlank()) {
+                connector.useGradleUserHomeDir(new File(serviceDirectory));
+            }
+            return connector.connect();
+        });
+    }
+
+    @Override
+    public void dispose() {
+        connections.values().forEach(connection -> {
+            try {
+                connection.close();
+            } catch (RuntimeException ex) {
+                LOG.log(WARNING, "Unable to close the Gradle connection", ex);
+            }
+        });
+        connections.clear();
+    }
+}
@@ -22,6 +22,7 @@ import com.intellij.execution.configurations.RemoteConnectionCreator;
 import com.intellij.execution.configurations.RunConfiguration;
 import com.intellij.openapi.options.SettingsEditor;
 import com.intellij.openapi.project.Project;
+import fish.payara.project.PayaraProjectService;
 import org.jetbrains.idea.maven.execution.MavenRunConfiguration;
 import org.jetbrains.idea.maven.execution.MavenRunnerParameters;
 
@@ -41,7 +42,7 @@ public class MicroMavenConfiguration extends MavenRunConfiguration {
                 parameters.setWorkingDirPath(super.getProject().getBasePath());
             }
             if (parameters.getGoals().isEmpty()) {
-                MicroMavenProject mavenProject = MicroMavenProject.getInstance(super.getProject());
+                MicroMavenProject mavenProject = PayaraProjectService.getInstance(super.getProject()).getMicroMavenProject();
                 if (mavenProject == null) {
                     parameters.getGoals().add(MicroMavenProject.PACKAGE_GOAL);
                     parameters.getGoals().add(String.format(
@@ -18,18 +18,22 @@ package fish.payara.micro.maven;
 
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.search.FilenameIndex;
-import com.intellij.psi.search.GlobalSearchScope;
+import fish.payara.execution.BuildCommand;
+import fish.payara.execution.LinkedExplodedWar;
+import fish.payara.execution.PayaraExecutionSettings;
 import fish.payara.micro.PayaraMicroProject;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
-import javax.xml.parsers.ParserConfigurationException;
+import fish.payara.project.PayaraPluginClassifier;
+import fish.payara.project.PayaraPluginDescriptor;
+import fish.payara.util.MavenModelUtil;
+import fish.payara.util.MavenUtil;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
 import java.util.logging.Logger;
+import org.jetbrains.idea.maven.project.MavenProject;
 import static fish.payara.PayaraConstants.DEFAULT_DEBUG_PORT;
-import fish.payara.util.MavenUtil;
-import static java.util.logging.Level.SEVERE;
+import static fish.payara.project.PayaraPluginKind.MICRO;
+import static java.util.logging.Level.WARNING;
 
 /**
  * @author gaurav.gupta@payara.fish
@@ -52,177 +56,170 @@ public class MicroMavenProject extends PayaraMicroProject {
     private static final String RESOURCES_GOAL = "resources:resources";
     public static final String PACKAGE_GOAL = "package";
     public static final String DEBUG_PROPERTY = "-Ddebug=-agentlib:jdwp=transport=dt_socket,server=n,suspend=n,address=%s";
-    private static final String BUILD_FILE = "pom.xml";
-    private static final String USE_UBER_JAR = "useUberJar";
-    private static final String EXPLODED = "exploded";
+    public static final String USE_UBER_JAR = "useUberJar";
+    public static final String EXPLODED = "exploded";
     private static final String EXPLODED_PROPERTY = "-Dexploded=true";
     public static final String DEPLOY_WAR_PROPERTY = "-DdeployWar=true";
     public static final String PAYARA_TRANSFORMER = "fish.payara.transformer";
     public static final String PAYARA_TRANSFORMER_MAVEN = "fish.payara.transformer.maven";
     public static final String PAYARA_TRANSFORMER_VERSION = "0.2.14";
     private boolean useUberJar, exploded;
+    private String projectName;
 
     @Override
-    public String getStartCommand(boolean debug) {
-        String cmd;
+    public BuildCommand getStartCommand(boolean debug) {
+        BuildCommand cmd;
         if (useUberJar) {
             cmd = getStartUberJarCommand();
         } else if (exploded) {
             cmd = getStartExplodedWarCommand();
         } else {
-            cmd = String.format("mvn %s %s:%s:%s",
-                    PACKAGE_GOAL,
-                    MICRO_GROUP_ID, MICRO_ARTIFACT_ID, DEV_GOAL
-            );
+            cmd = BuildCommand.maven(PACKAGE_GOAL).then(getPluginCommand(DEV_GOAL).blocking());
         }
-        return debug ? cmd + ' ' + String.format(DEBUG_PROPERTY, DEFAULT_DEBUG_PORT) : cmd;
+        return debug ? cmd.withDefinition(String.format(DEBUG_PROPERTY, DEFAULT_DEBUG_PORT)) : cmd;
     }
 
-    private String getStartUberJarCommand() {
-        return String.format("mvn %s:%s:%s %s:%s:%s",
-                MICRO_GROUP_ID, MICRO_ARTIFACT_ID, BUNDLE_GOAL,
-                MICRO_GROUP_ID, MICRO_ARTIFACT_ID, DEV_GOAL
-        );
+    private BuildCommand getStartUberJarCommand() {
+        return getBundleCommand().then(getPluginCommand(DEV_GOAL).blocking());
     }
 
-    private String getStartExplodedWarCommand() {
-        return String.format("mvn %s %s %s %s:%s:%s %s %s",
-                RESOURCES_GOAL,
-                COMPILE_GOAL,
-                WAR_EXPLODE_GOAL,
-                MICRO_GROUP_ID, MICRO_ARTIFACT_ID, DEV_GOAL,
-                EXPLODED_PROPERTY,
-                DEPLOY_WAR_PROPERTY
-        );
+    private BuildCommand getStartExplodedWarCommand() {
+        return afterExplode(getPluginCommand(DEV_GOAL).blocking())
+                .withDefinition(EXPLODED_PROPERTY)
+                .withDefinition(DEPLOY_WAR_PROPERTY);
     }
 
-    @Override
-    public String getReloadCommand() {
-        if (!exploded) {
-            throw new IllegalStateException("Reload task is only functional for exploded war artifacts.");
+    /**
+     * @return the command after war:exploded, or alone in the linked layout
+     * as it runs after {@link #getExplodedBuildCommand}
+     */
+    private BuildCommand afterExplode(BuildCommand command) {
+        if (isLinked()) {
+            return command;
         }
-        return String.format("mvn %s %s %s %s:%s:%s",
-                RESOURCES_GOAL,
-                COMPILE_GOAL,
-                WAR_EXPLODE_GOAL,
-                MICRO_GROUP_ID, MICRO_ARTIFACT_ID, RELOAD_GOAL
-        );
+        return BuildCommand.maven(RESOURCES_GOAL, COMPILE_GOAL, WAR_EXPLODE_GOAL).then(command);
     }
 
-    @Override
-    public String getStopCommand() {
-        return String.format("mvn %s:%s:%s",
-                MICRO_GROUP_ID, MICRO_ARTIFACT_ID, STOP_GOAL
-        );
+    private boolean isLinked() {
+        return exploded && PayaraExecutionSettings.isLinkedLayoutEnabled(getProject());
     }
 
+    /**
+     * @return the goals building the output the exploded war links to, in
+     * the linked layout
+     */
     @Override
-    public String getBundleCommand() {
-        return String.format("mvn %s:%s:%s",
-                MICRO_GROUP_ID, MICRO_ARTIFACT_ID, BUNDLE_GOAL
-        );
+    public BuildCommand getExplodedBuildCommand() {
+        return isLinked() ? BuildCommand.maven(RESOURCES_GOAL, COMPILE_GOAL) : null;
     }
 
+    /**
+     * Refreshes the links of the exploded war in the linked layout, so the
+     * hard links and the copies show the new build output.
+     */
     @Override
-    public String getTransformCommand(String srcPath, String targetPath) {
-        return String.format("mvn package %s:%s:%s:run -DselectedSource=%s -DselectedTarget=%s",
-                PAYARA_TRANSFORMER, PAYARA_TRANSFORMER_MAVEN, PAYARA_TRANSFORMER_VERSION, srcPath, targetPath);
-    }
-
-    public static MicroMavenProject getInstance(Project project) {
-        PsiFile pom = getPomFile(project);
-        if (pom != null) {
-            return new MicroMavenProject(project, pom);
+    public void completeBuild() {
+        if (!isLinked()) {
+            return;
+        }
+        MavenProject mavenProject = MavenModelUtil.findProject(getProject(), getBuildFile());
+        if (mavenProject == null || mavenProject.getFinalName() == null) {
+            return;
+        }
+        try {
+            LinkedExplodedWar.of(getProject(), mavenProject).refresh();
+        } catch (IOException ex) {
+            LOG.log(WARNING, "Unable to link the exploded war of " + getProjectName(), ex);
         }
-        return null;
     }
 
-    public MicroMavenProject(Project project, PsiFile pom) {
-        super(project, pom);
-        parsePom();
+    private static BuildCommand getPluginCommand(String goal) {
+        return BuildCommand.maven(String.format("%s:%s:%s", MICRO_GROUP_ID, MICRO_ARTIFACT_ID, goal));
     }
 
-    /**
-     * Return the project name from pom.xml artifactId
-     *
-     * @return
-     */
     @Override
-    public String getProjectName() {
-       return MavenUtil.getProjectName(super.getBuildFile());
+    public boolean isExploded() {
+        return exploded;
     }
 
-    /**
-     * @param project
-     * @return the pom.xml file
-     */
-    private static PsiFile getPomFile(Project project) {
-        PsiFile[] poms = FilenameIndex.getFilesByName(project, BUILD_FILE, GlobalSearchScope.projectScope(project));
-        for (PsiFile pom : poms) {
-            if (isValidPom(pom)) {
-                return pom;
-            }
+    @Override
+    public BuildCommand getReloadCommand() {
+        if (!exploded) {
+            throw new IllegalStateException("Reload task is only functional for exploded war artifacts.");
         }
-        return null;
+        return afterExplode(getPluginCommand(RELOAD_GOAL));
     }
 
     /**
-     * @param pomFile the pom.xml file
-     * @return true if pom.xml file includes Payara Micro Maven plugin
+     * @return the war:exploded output, i.e. {@code target/<finalName>} of the
+     * imported Maven project
      */
-    private static boolean isValidPom(PsiFile pomFile) {
-        try {
-            Node pomRoot = MavenUtil.getPomRootNode(pomFile);
-            return MavenUtil.getBuildNodes(pomRoot)
-                    .stream()
-                    .anyMatch(MicroMavenProject::isMicroPlugin);
-        } catch (ParserConfigurationException | SAXException | IOException ex) {
-            LOG.log(SEVERE, null, ex);
+    @Override
+    public Path getExplodedDirectory() {
+        MavenProject mavenProject = MavenModelUtil.findProject(getProject(), getBuildFile());
+        if (mavenProject == null || mavenProject.getFinalName() == null) {
+            return null;
         }
-        return false;
+        return Path.of(mavenProject.getBuildDirectory(), mavenProject.getFinalName());
+    }
+
+    @Override
+    public BuildCommand getStopCommand() {
+        return getPluginCommand(STOP_GOAL);
+    }
 
+    @Override
+    public BuildCommand getBundleCommand() {
+        return getPluginCommand(BUNDLE_GOAL);
+    }
+
+    @Override
+    public BuildCommand getTransformCommand(String srcPath, String targetPath) {
+        return BuildCommand.maven(PACKAGE_GOAL,
+                String.format("%s:%s:%s:run", PAYARA_TRANSFORMER, PAYARA_TRANSFORMER_MAVEN, PAYARA_TRANSFORMER_VERSION))
+                .withProperty("selectedSource", srcPath)
+                .withProperty("selectedTarget", targetPath);
+    }
+
+    public static MicroMavenProject getInstance(Project project) {
+        return getInstance(project, PayaraPluginClassifier.classify(project));
     }
 
     /**
-     * @param buildNode
-     * @return true if pom.xml file includes Payara Micro Maven plugin
+     * @param project the project
+     * @param descriptors the classified pom.xml files of the project
+     * @return the first project declaring the plugin or null
      */
-    private static boolean isMicroPlugin(Node buildNode) {
-        return MavenUtil.getPluginNode(buildNode, MICRO_GROUP_ID, MICRO_ARTIFACT_ID) != null;
+    public static MicroMavenProject getInstance(Project project, Map<PsiFile, PayaraPluginDescriptor> descriptors) {
+        return descriptors.entrySet().stream()
+                .filter(entry -> entry.getValue().hasKind(MICRO))
+                .findFirst()
+                .map(entry -> new MicroMavenProject(project, entry.getKey(), entry.getValue()))
+                .orElse(null);
+    }
+
+    public MicroMavenProject(Project project, PsiFile pom) {
+        this(project, pom, PayaraPluginClassifier.classify(pom));
+    }
+
+    private MicroMavenProject(Project project, PsiFile pom, PayaraPluginDescriptor descriptor) {
+        super(project, pom);
+        this.projectName = descriptor.getProjectName();
+        this.useUberJar = descriptor.isFlagEnabled(MICRO, USE_UBER_JAR);
+        this.exploded = descriptor.isFlagEnabled(MICRO, EXPLODED);
     }
 
     /**
-     * Parse the pom.xml to read the configuration of Payara Micro Maven plugin.
+     * Return the project name from pom.xml name or artifactId
+     *
+     * @return
      */
-    private void parsePom() {
-        try {
-            Node pomRoot = MavenUtil.getPomRootNode(super.getBuildFile());
-            for (Node buildNode : MavenUtil.getBuildNodes(pomRoot)) {
-                Node plugin = MavenUtil.getPluginNode(buildNode, MICRO_GROUP_ID, MICRO_ARTIFACT_ID);
-                if (plugin == null) {
-                    continue;
-                }
-                NodeList pluginChildNodes = plugin.getChildNodes();
-                for (int i = 0; i < pluginChildNodes.getLength(); i++) {
-                    Node configurationNode = pluginChildNodes.item(i);
-                    if (configurationNode.getNodeName().equals("configuration")) {
-                        NodeList configurationChildNodes = configurationNode.getChildNodes();
-                        for (int j = 0; j < configurationChildNodes.getLength(); j++) {
-                            Node param = configurationChildNodes.item(j);
-                            if (param.getNodeName().equals(USE_UBER_JAR)
-                                    && param.getTextContent().equals("true")) {
-                                useUberJar = true;
-                            } else if (param.getNodeName().equals(EXPLODED)
-                                    && param.getTextContent().equals("true")) {
-                                exploded = true;
-                            }
-                        }
-                    }
-                }
-            }
-        } catch (Exception ex) {
-            LOG.log(SEVERE, super.getBuildFile().getVirtualFile().getPath(), ex);
+    @Override
+    public String getProjectName() {
+        if (projectName == null) {
+            projectName = MavenUtil.getProjectName(super.getBuildFile());
         }
+        return projectName;
     }
 
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.project;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.search.FilenameIndex;
+import com.intellij.psi.search.GlobalSearchScope;
+import fish.payara.util.MavenModelUtil;
+import fish.payara.util.PomScanner;
+import fish.payara.util.PomScanner.PomInfo;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.stream.XMLStreamException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.idea.maven.model.MavenPlugin;
+import org.jetbrains.idea.maven.project.MavenProject;
+
+/**
+ * Classifies Maven build files by the Payara Micro, Server and Cloud plugins
+ * they declare, reading each build section once for all plugin kinds.
+ */
+public final class PayaraPluginClassifier {
+
+    private static final String BUILD_FILE = "pom.xml";
+
+    private static final String TRUE = "true";
+
+    private PayaraPluginClassifier() {
+    }
+
+    /**
+     * Classify every pom.xml of the project, from the imported Maven model if
+     * available, otherwise from the pom.xml files and their parent chain.
+     *
+     * @param project the project
+     * @return the pom.xml files declaring at least one Payara plugin, in
+     * project order
+     */
+    @NotNull
+    public static Map<PsiFile, PayaraPluginDescriptor> classify(@NotNull Project project) {
+        Map<PsiFile, PayaraPluginDescriptor> descriptors = new LinkedHashMap<>();
+        Map<PsiFile, MavenProject> mavenProjects = MavenModelUtil.getProjects(project);
+        if (mavenProjects != null) {
+            mavenProjects.forEach((pom, mavenProject) -> {
+                PayaraPluginDescriptor descriptor = classify(mavenProject);
+                if (!descriptor.isEmpty()) {
+                    descriptors.put(pom, descriptor);
+                }
+            });
+            return descriptors;
+        }
+        // Maven model is not imported yet, resolve the pom.xml parent chain
+        for (PsiFile pom : getCandidates(project)) {
+            PayaraPluginDescriptor descriptor = classify(pom);
+            if (!descriptor.isEmpty()) {
+                descriptors.put(pom, descriptor);
+            }
+        }
+        return descriptors;
+    }
+
+    /**
+     * @param pomFile the pom.xml file
+     * @return the effective classification of the pom.xml, empty if the
+     * pom.xml is not readable
+     */
+    @NotNull
+    public static PayaraPluginDescriptor classify(@NotNull PsiFile pomFile) {
+        MavenProject mavenProject = MavenModelUtil.findProject(pomFile.getProject(), pomFile);
+        if (mavenProject != null) {
+            return classify(mavenProject);
+        }
+        PomInfo pomInfo = PayaraProjectService.getInstance(pomFile.getProject())
+                .getPomResolver()
+                .resolve(pomFile, createScanner().withName());
+        return pomInfo != null ? toDescriptor(pomInfo) : new PayaraPluginDescriptor(null, Map.of());
+    }
+
+    /**
+     * @param input the pom.xml content
+     * @return the classification of the plugins declared in the pom.xml
+     * itself, without the project name
+     * @throws XMLStreamException if the pom.xml is malformed
+     */
+    @NotNull
+    public static PayaraPluginDescriptor classify(@NotNull InputStream input) throws XMLStreamException {
+        return toDescriptor(createScanner().scan(input));
+    }
+
+    /**
+     * @param mavenProject the imported Maven project
+     * @return the classification of the effective Maven project plugins
+     */
+    @NotNull
+    public static PayaraPluginDescriptor classify(@NotNull MavenProject mavenProject) {
+        Map<PayaraPluginKind, Set<String>> plugins = new EnumMap<>(PayaraPluginKind.class);
+        for (MavenPlugin plugin : mavenProject.getPlugins()) {
+            PayaraPluginKind kind = PayaraPluginKind.of(plugin.getGroupId(), plugin.getArtifactId());
+            if (kind != null) {
+                Map<String, String> configuration = MavenModelUtil.getConfiguration(plugin);
+                Set<String> flags = new HashSet<>();
+                for (String flag : kind.getFlags()) {
+                    if (TRUE.equals(configuration.get(flag))) {
+                        flags.add(flag);
+                    }
+                }
+                plugins.put(kind, flags);
+            }
+        }
+        return new PayaraPluginDescriptor(MavenModelUtil.getProjectName(mavenProject), plugins);
+    }
+
+    /**
+     * The build files declaring a plugin in the index come first, followed by
+     * the pom.xml files below them, as those modules may inherit the plugin.
+     * A plugin kind not declared anywhere needs no candidates of its own.
+     * Every pom.xml is a candidate only while the index is not ready, or when
+     * no kind is declared at all, as the plugins may then be inherited from a
+     * parent outside the project.
+     */
+    private static Set<PsiFile> getCandidates(Project project) {
+        Set<PsiFile> candidates = new LinkedHashSet<>();
+        boolean indexReady = true;
+        for (PayaraPluginKind kind : PayaraPluginKind.values()) {
+            Map<PsiFile, Map<String, String>> declarations = PayaraPluginIndex.getDeclarations(project, kind.getArtifactId());
+            if (declarations == null) {
+                indexReady = false;
+                continue;
+            }
+            for (PsiFile file : declarations.keySet()) {
+                if (BUILD_FILE.equals(file.getName())) {
+                    candidates.add(file);
+                }
+            }
+        }
+        PsiFile[] poms = ReadAction.compute(
+                () -> FilenameIndex.getFilesByName(project, BUILD_FILE, GlobalSearchScope.projectScope(project))
+        );
+        if (!indexReady || candidates.isEmpty()) {
+            candidates.addAll(Arrays.asList(poms));
+            return candidates;
+        }
+        Set<String> declaringDirectories = new HashSet<>();
+        for (PsiFile candidate : candidates) {
+            String directory = getDirectory(candidate);
+            if (directory != null) {
+                declaringDirectories.add(directory + '/');
+            }
+        }
+        for (PsiFile pom : poms) {
+            String directory = getDirectory(pom);
+            if (directory != null && declaringDirectories.stream().anyMatch(directory::startsWith)) {
+                candidates.add(pom);
+            }
+        }
+        return candidates;
+    }
+
+    private static String getDirectory(PsiFile file) {
+        VirtualFile virtualFile = file.getVirtualFile();
+        VirtualFile directory = virtualFile != null ? virtualFile.getParent() : null;
+        return directory != null ? directory.getPath() : null;
+    }
+
+    private static PomScanner createScanner() {
+        PomScanner scanner = PomScanner.create();
+        for (PayaraPluginKind kind : PayaraPluginKind.values()) {
+            scanner.withPlugin(kind.getGroupId(), kind.getArtifactId(), kind.getFlags().toArray(new String[0]));
+        }
+        return scanner;
+    }
+
+    private static PayaraPluginDescriptor toDescriptor(PomInfo pomInfo) {
+        Map<PayaraPluginKind, Set<String>> plugins = new EnumMap<>(PayaraPluginKind.class);
+        for (PayaraPluginKind kind : PayaraPluginKind.values()) {
+            if (pomInfo.isPluginDeclared(kind.getGroupId(), kind.getArtifactId())) {
+                Set<String> flags = new HashSet<>();
+                for (String flag : kind.getFlags()) {
+                    if (pomInfo.isFlagEnabled(kind.getGroupId(), kind.getArtifactId(), flag)) {
+                        flags.add(flag);
+                    }
+                }
+                plugins.put(kind, flags);
+            }
+        }
+        return new PayaraPluginDescriptor(pomInfo.getProjectName(), plugins);
+    }
+}
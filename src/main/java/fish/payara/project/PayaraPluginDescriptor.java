@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.project;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable result of the classification of a build file: the project name
+ * and every Payara plugin kind declared, with its enabled configuration
+ * flags.
+ */
+public final class PayaraPluginDescriptor {
+
+    private final String projectName;
+    private final Map<PayaraPluginKind, Set<String>> plugins;
+
+    PayaraPluginDescriptor(String projectName, Map<PayaraPluginKind, Set<String>> plugins) {
+        this.projectName = projectName;
+        Map<PayaraPluginKind, Set<String>> copy = new EnumMap<>(PayaraPluginKind.class);
+        plugins.forEach((kind, flags) -> copy.put(kind, Set.copyOf(flags)));
+        this.plugins = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * @return the project name, may be null if not read
+     */
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public Set<PayaraPluginKind> getKinds() {
+        return plugins.keySet();
+    }
+
+    public boolean hasKind(PayaraPluginKind kind) {
+        return plugins.containsKey(kind);
+    }
+
+    public boolean isFlagEnabled(PayaraPluginKind kind, String flag) {
+        Set<String> flags = plugins.get(kind);
+        return flags != null && flags.contains(flag);
+    }
+
+    public boolean isEmpty() {
+        return plugins.isEmpty();
+    }
+}
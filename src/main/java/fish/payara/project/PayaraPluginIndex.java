@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.project;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.DataIndexer;
+import com.intellij.util.indexing.FileBasedIndex;
+import com.intellij.util.indexing.FileBasedIndexExtension;
+import com.intellij.util.indexing.FileContent;
+import com.intellij.util.indexing.ID;
+import com.intellij.util.io.DataExternalizer;
+import com.intellij.util.io.DataInputOutputUtil;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.IOUtil;
+import com.intellij.util.io.KeyDescriptor;
+import fish.payara.micro.gradle.GradleBuildParser;
+import fish.payara.micro.gradle.GradleBuildParser.GradleBuild;
+import fish.payara.micro.gradle.GradleProject;
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import javax.xml.stream.XMLStreamException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import static java.util.logging.Level.FINE;
+
+/**
+ * Index of the build files declaring a Payara plugin.
+ * <p>
+ * The key is the plugin artifactId and the value holds the plugin
+ * configuration flags read from the build file. The IDE keeps the index up to
+ * date incrementally, so detecting a Payara project is a lookup instead of a
+ * parse of every build file in the project.
+ */
+public final class PayaraPluginIndex extends FileBasedIndexExtension<String, Map<String, String>> {
+
+    private static final Logger LOG = Logger.getLogger(PayaraPluginIndex.class.getName());
+
+    public static final ID<String, Map<String, String>> NAME = ID.create("fish.payara.plugin");
+
+    private static final String POM_FILE = "pom.xml";
+    private static final Set<String> GRADLE_FILES = Set.of("build.gradle", "build.gradle.kts");
+
+    @NotNull
+    @Override
+    public ID<String, Map<String, String>> getName() {
+        return NAME;
+    }
+
+    @NotNull
+    @Override
+    public DataIndexer<String, Map<String, String>, FileContent> getIndexer() {
+        return inputData -> {
+            if (POM_FILE.equals(inputData.getFileName())) {
+                return indexPom(inputData.getContent());
+            }
+            return indexGradleBuild(inputData.getContentAsText());
+        };
+    }
+
+    @NotNull
+    @Override
+    public KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @NotNull
+    @Override
+    public DataExternalizer<Map<String, String>> getValueExternalizer() {
+        return new ConfigurationExternalizer();
+    }
+
+    @Override
+    public int getVersion() {
+        return 3;
+    }
+
+    @NotNull
+    @Override
+    public FileBasedIndex.InputFilter getInputFilter() {
+        return file -> POM_FILE.equals(file.getName()) || GRADLE_FILES.contains(file.getName());
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * @param project the project
+     * @param pluginArtifactId the plugin artifactId
+     * @return the build files declaring the plugin with their configuration,
+     * or null if the index is not available during indexing
+     */
+    @Nullable
+    public static Map<PsiFile, Map<String, String>> getDeclarations(@NotNull Project project, @NotNull String pluginArtifactId) {
+        if (DumbService.isDumb(project)) {
+            return null;
+        }
+        return ReadAction.compute(() -> {
+            PsiManager psiManager = PsiManager.getInstance(project);
+            Map<PsiFile, Map<String, String>> declarations = new LinkedHashMap<>();
+            FileBasedIndex.getInstance().processValues(
+                    NAME,
+                    pluginArtifactId,
+                    null,
+                    (file, configuration) -> {
+                        PsiFile buildFile = psiManager.findFile(file);
+                        if (buildFile != null) {
+                            declarations.put(buildFile, configuration);
+                        }
+                        return true;
+                    },
+                    GlobalSearchScope.projectScope(project)
+            );
+            return declarations;
+        });
+    }
+
+    private static Map<String, Map<String, String>> indexPom(byte[] content) {
+        Map<String, Map<String, String>> result = new HashMap<>();
+        try {
+            PayaraPluginDescriptor descriptor = PayaraPluginClassifier.classify(new ByteArrayInputStream(content));
+            for (PayaraPluginKind kind : descriptor.getKinds()) {
+                Map<String, String> configuration = new HashMap<>();
+                for (String flag : kind.getFlags()) {
+                    configuration.put(flag, Boolean.toString(descriptor.isFlagEnabled(kind, flag)));
+                }
+                result.put(kind.getArtifactId(), configuration);
+            }
+        } catch (XMLStreamException ex) {
+            // malformed pom.xml while editing, indexed again on the next change
+            LOG.log(FINE, null, ex);
+        }
+        return result;
+    }
+
+    private static Map<String, Map<String, String>> indexGradleBuild(CharSequence content) {
+        GradleBuild build = GradleBuildParser.parseBuild(content);
+        if (build.isPluginDeclared()) {
+            return Map.of(GradleProject.MICRO_ARTIFACT_ID, build.getExtension());
+        }
+        return Map.of();
+    }
+
+    private static final class ConfigurationExternalizer implements DataExternalizer<Map<String, String>> {
+
+        @Override
+        public void save(@NotNull DataOutput out, Map<String, String> value) throws IOException {
+            DataInputOutputUtil.writeINT(out, value.size());
+            for (Map.Entry<String, String> entry : value.entrySet()) {
+                IOUtil.writeUTF(out, entry.getKey());
+                IOUtil.writeUTF(out, entry.getValue());
+            }
+        }
+
+        @Override
+        public Map<String, String> read(@NotNull DataInput in) throws IOException {
+            int size = DataInputOutputUtil.readINT(in);
+            Map<String, String> value = new HashMap<>(size);
+            for (int i = 0; i < size; i++) {
+                value.put(IOUtil.readUTF(in), IOUtil.readUTF(in));
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.project;
+
+import fish.payara.cloud.maven.CloudMavenProject;
+import fish.payara.micro.maven.MicroMavenProject;
+import fish.payara.server.maven.ServerMavenProject;
+import java.util.List;
+
+/**
+ * The Payara Maven plugins and the boolean configuration flags read for each.
+ */
+public enum PayaraPluginKind {
+
+    MICRO(MicroMavenProject.MICRO_GROUP_ID, MicroMavenProject.MICRO_ARTIFACT_ID,
+            MicroMavenProject.USE_UBER_JAR, MicroMavenProject.EXPLODED),
+    SERVER(ServerMavenProject.SERVER_PLUGIN_GROUP_ID, ServerMavenProject.SERVER_PLUGIN_ARTIFACT_ID,
+            ServerMavenProject.EXPLODED),
+    CLOUD(CloudMavenProject.CLOUD_GROUP_ID, CloudMavenProject.CLOUD_ARTIFACT_ID);
+
+    private final String groupId;
+    private final String artifactId;
+    private final List<String> flags;
+
+    PayaraPluginKind(String groupId, String artifactId, String... flags) {
+        this.groupId = groupId;
+        this.artifactId = artifactId;
+        this.flags = List.of(flags);
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public String getArtifactId() {
+        return artifactId;
+    }
+
+    public List<String> getFlags() {
+        return flags;
+    }
+
+    /**
+     * @param groupId the plugin groupId
+     * @param artifactId the plugin artifactId
+     * @return the kind of the plugin or null if not a Payara plugin
+     */
+    public static PayaraPluginKind of(String groupId, String artifactId) {
+        for (PayaraPluginKind kind : values()) {
+            if (kind.groupId.equals(groupId) && kind.artifactId.equals(artifactId)) {
+                return kind;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.project;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.components.Service;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.roots.ProjectFileIndex;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent;
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent;
+import com.intellij.psi.PsiFile;
+import com.intellij.util.messages.MessageBusConnection;
+import fish.payara.cloud.maven.CloudMavenProject;
+import fish.payara.micro.PayaraMicroProject;
+import fish.payara.micro.gradle.GradleProject;
+import fish.payara.micro.maven.MicroMavenProject;
+import fish.payara.server.maven.ServerMavenProject;
+import fish.payara.util.EffectivePomResolver;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.idea.maven.project.MavenImportListener;
+import org.jetbrains.idea.maven.project.MavenProject;
+import org.jetbrains.idea.maven.project.MavenProjectsManager;
+
+/**
+ * Project level cache of the detected Payara Micro, Server and Cloud projects.
+ * <p>
+ * Detection scans and parses every build file of the project, so the result is
+ * kept here and an entry is only rebuilt when its build file changes in the
+ * VFS. Only the build files in the project content, and the pom.xml files of
+ * a resolved parent chain, are watched. Negative results are dropped whenever
+ * such a build file changes, as a new or edited build file may declare the
+ * Payara plugin. All entries are dropped when such a pom.xml changes, as a
+ * Maven project inherits its plugins from its parent chain, and when the
+ * Maven model is re-imported. The parent chain scans are memoized by the
+ * {@link EffectivePomResolver} by modification stamp and outlive the
+ * entries.
+ */
+@Service(Service.Level.PROJECT)
+public final class PayaraProjectService implements Disposable {
+
+    private static final String MAVEN_BUILD_FILE = "pom.xml";
+
+    private static final Set<String> BUILD_FILES = Set.of(
+            MAVEN_BUILD_FILE,
+            "build.gradle",
+            "build.gradle.kts",
+            "settings.gradle",
+            "settings.gradle.kts"
+    );
+
+    private final Project project;
+
+    private final Map<Class<?>, Entry<?>> cache = new ConcurrentHashMap<>();
+
+    private final EffectivePomResolver pomResolver;
+
+    private volatile Map<PsiFile, PayaraPluginDescriptor> classification;
+
+    public PayaraProjectService(@NotNull Project project) {
+        this.project = project;
+        this.pomResolver = new EffectivePomResolver(() -> MavenProjectsManager.getInstance(project).getLocalRepository());
+        MessageBusConnection connection = project.getMessageBus().connect(this);
+        connection.subscribe(MavenImportListener.TOPIC, new MavenImportListener() {
+            @Override
+            public void importFinished(@NotNull Collection<MavenProject> importedProjects, @NotNull List<Module> newModules) {
+                invalidateAll();
+            }
+        });
+        connection.subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if (isBuildFileEvent(event) && !project.isDisposed()) {
+                        invalidate(event);
+                    }
+                }
+            }
+        });
+    }
+
+    public static PayaraProjectService getInstance(@NotNull Project project) {
+        return project.getService(PayaraProjectService.class);
+    }
+
+    /**
+     * @return the Maven or Gradle based Payara Micro project, Maven first
+     */
+    @Nullable
+    public PayaraMicroProject getMicroProject() {
+        PayaraMicroProject microProject = getMicroMavenProject();
+        return microProject != null ? microProject : getGradleProject();
+    }
+
+    @Nullable
+    public MicroMavenProject getMicroMavenProject() {
+        return resolve(MicroMavenProject.class,
+                p -> MicroMavenProject.getInstance(p, getClassification()),
+                MicroMavenProject::getBuildFile);
+    }
+
+    @Nullable
+    public GradleProject getGradleProject() {
+        return resolve(GradleProject.class, GradleProject::getInstance, GradleProject::getBuildFile);
+    }
+
+    @Nullable
+    public ServerMavenProject getServerProject() {
+        return resolve(ServerMavenProject.class,
+                p -> ServerMavenProject.getInstance(p, getClassification()),
+                ServerMavenProject::getBuildFile);
+    }
+
+    @Nullable
+    public CloudMavenProject getCloudProject() {
+        return resolve(CloudMavenProject.class,
+                p -> CloudMavenProject.getInstance(p, getClassification()),
+                CloudMavenProject::getBuildFile);
+    }
+
+    /**
+     * @return true if the Micro project detection result is cached, so
+     * {@link #peekMicroProject()} does not need to detect it
+     */
+    public boolean isMicroProjectResolved() {
+        Entry<?> mavenEntry = peek(MicroMavenProject.class);
+        return mavenEntry != null && (mavenEntry.value != null || peek(GradleProject.class) != null);
+    }
+
+    /**
+     * @return the cached Micro project without running the detection, null
+     * if not detected or not resolved yet
+     */
+    @Nullable
+    public PayaraMicroProject peekMicroProject() {
+        Entry<?> mavenEntry = peek(MicroMavenProject.class);
+        if (mavenEntry != null && mavenEntry.value != null) {
+            return (PayaraMicroProject) mavenEntry.value;
+        }
+        Entry<?> gradleEntry = peek(GradleProject.class);
+        return gradleEntry != null ? (PayaraMicroProject) gradleEntry.value : null;
+    }
+
+    /**
+     * @return true if the Cloud project detection result is cached, so
+     * {@link #peekCloudProject()} does not need to detect it
+     */
+    public boolean isCloudProjectResolved() {
+        return peek(CloudMavenProject.class) != null;
+    }
+
+    /**
+     * @return the cached Cloud project without running the detection, null
+     * if not detected or not resolved yet
+     */
+    @Nullable
+    public CloudMavenProject peekCloudProject() {
+        Entry<?> entry = peek(CloudMavenProject.class);
+        return entry != null ? (CloudMavenProject) entry.value : null;
+    }
+
+    /**
+     * The Micro, Server and Cloud Maven projects are all derived from a single
+     * classification of the pom.xml files.
+     *
+     * @return the pom.xml files declaring a Payara plugin
+     */
+    @NotNull
+    public Map<PsiFile, PayaraPluginDescriptor> getClassification() {
+        Map<PsiFile, PayaraPluginDescriptor> result = classification;
+        if (result == null) {
+            result = PayaraPluginClassifier.classify(project);
+            classification = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return the resolver of the pom.xml parent chains, memoizing the scans
+     * by modification stamp
+     */
+    @NotNull
+    public EffectivePomResolver getPomResolver() {
+        return pomResolver;
+    }
+
+    /**
+     * Drops all cached projects, the next lookup detects them again.
+     */
+    public void invalidateAll() {
+        classification = null;
+        cache.clear();
+    }
+
+    private <T> T resolve(Class<T> type, Function<Project, T> detector, Function<T, PsiFile> buildFile) {
+        Entry<?> entry = cache.get(type);
+        if (entry == null || !entry.isValid()) {
+            T value = detector.apply(project);
+            entry = new Entry<>(value, value != null ? buildFile.apply(value) : null);
+            cache.put(type, entry);
+        }
+        return type.cast(entry.value);
+    }
+
+    private Entry<?> peek(Class<?> type) {
+        Entry<?> entry = cache.get(type);
+        return entry != null && entry.isValid() ? entry : null;
+    }
+
+    private void invalidate(VFileEvent event) {
+        String path = event.getPath();
+        if (MAVEN_BUILD_FILE.equals(getFileName(path)) || (event instanceof VFilePropertyChangeEvent
+                && MAVEN_BUILD_FILE.equals(String.valueOf(((VFilePropertyChangeEvent) event).getNewValue())))) {
+            // a pom.xml of the project or of a resolved parent chain, e.g. in the local repository
+            if (isInContent(event) || pomResolver.isScanned(Path.of(path))) {
+                invalidateAll();
+            }
+            return;
+        }
+        if (!isInContent(event)) {
+            return;
+        }
+        classification = null;
+        cache.values().removeIf(entry -> entry.buildFilePath == null || entry.buildFilePath.equals(path));
+    }
+
+    /**
+     * @return true if the file of the event, or its directory once deleted,
+     * is in the project content, i.e. not in the excluded build output nor
+     * outside of the project
+     */
+    private boolean isInContent(VFileEvent event) {
+        VirtualFile file = event.getFile();
+        if (file == null || !file.isValid()) {
+            String path = event.getPath();
+            file = LocalFileSystem.getInstance().findFileByPath(path.substring(0, Math.max(path.lastIndexOf('/'), 0)));
+        }
+        return file != null && ProjectFileIndex.getInstance(project).isInContent(file);
+    }
+
+    private static boolean isBuildFileEvent(VFileEvent event) {
+        if (BUILD_FILES.contains(getFileName(event.getPath()))) {
+            return true;
+        }
+        if (event instanceof VFilePropertyChangeEvent) {
+            VFilePropertyChangeEvent propertyEvent = (VFilePropertyChangeEvent) event;
+            return propertyEvent.isRename()
+                    && BUILD_FILES.contains(String.valueOf(propertyEvent.getNewValue()));
+        }
+        return false;
+    }
+
+    private static String getFileName(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    @Override
+    public void dispose() {
+        classification = null;
+        cache.clear();
+        pomResolver.clear();
+    }
+
+    private static final class Entry<T> {
+
+        private final T value;
+        private final PsiFile buildFile;
+        private final String buildFilePath;
+
+        private Entry(T value, PsiFile buildFile) {
+            this.value = value;
+            this.buildFile = buildFile;
+            VirtualFile virtualFile = buildFile != null ? buildFile.getVirtualFile() : null;
+            this.buildFilePath = virtualFile != null ? virtualFile.getPath() : null;
+        }
+
+        private boolean isValid() {
+            return buildFile == null || buildFile.isValid();
+        }
+    }
+}
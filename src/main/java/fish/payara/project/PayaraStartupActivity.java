@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.project;
+
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.startup.ProjectActivity;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import fish.payara.PayaraBundle;
+import fish.payara.cloud.maven.CloudMavenProject;
+import fish.payara.execution.MavenDaemon;
+import fish.payara.execution.PayaraExecutionSettings;
+import fish.payara.execution.TerminalSessionPool;
+import fish.payara.micro.DebuggerManager;
+import fish.payara.micro.MicroReloadWatcher;
+import fish.payara.micro.PayaraMicroProject;
+import fish.payara.micro.maven.MicroMavenProject;
+import fish.payara.server.maven.ServerMavenProject;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import kotlin.Unit;
+import kotlin.coroutines.Continuation;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Detects the Payara projects in the background once the project is opened
+ * and indexed, so the first Payara action does not pay the detection cost.
+ */
+public final class PayaraStartupActivity implements ProjectActivity {
+
+    private static final Logger LOG = Logger.getLogger(PayaraStartupActivity.class.getName());
+
+    @Nullable
+    @Override
+    public Object execute(@NotNull Project project, @NotNull Continuation<? super Unit> continuation) {
+        DumbService.getInstance(project).runWhenSmart(() -> new WarmUpTask(project).queue());
+        return Unit.INSTANCE;
+    }
+
+    private static final class WarmUpTask extends Task.Backgroundable {
+
+        private WarmUpTask(@NotNull Project project) {
+            super(project, PayaraBundle.message("PayaraStartupActivity.warmUp.title"), true);
+        }
+
+        @Override
+        public void run(@NotNull ProgressIndicator indicator) {
+            Project project = getProject();
+            long start = System.nanoTime();
+            PayaraProjectService service = PayaraProjectService.getInstance(project);
+            service.getClassification();
+            indicator.checkCanceled();
+            // the project names are read lazily from the build files
+            PayaraMicroProject microProject = service.getMicroProject();
+            if (microProject != null) {
+                microProject.getProjectName();
+                indicator.checkCanceled();
+                DebuggerManager.prepare(project);
+            }
+            indicator.checkCanceled();
+            ServerMavenProject serverProject = service.getServerProject();
+            if (serverProject != null) {
+                serverProject.getProjectName();
+            }
+            indicator.checkCanceled();
+            CloudMavenProject cloudProject = service.getCloudProject();
+            if (cloudProject != null) {
+                cloudProject.getProjectName();
+            }
+            indicator.checkCanceled();
+            if (PayaraExecutionSettings.isTerminalEnabled(project)) {
+                TerminalSessionPool.getInstance(project).warmUp();
+            }
+            if (microProject != null && PayaraExecutionSettings.isWatchEnabled(project)) {
+                MicroReloadWatcher.getInstance(project).start();
+            }
+            warmUpMavenDaemon(project, microProject, serverProject, cloudProject, indicator);
+            LOG.info(String.format("Payara project warm-up of %s took %d ms",
+                    project.getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+        }
+
+        /**
+         * Starts the Maven Daemon of the first Maven based Payara project.
+         */
+        private static void warmUpMavenDaemon(Project project, PayaraMicroProject microProject,
+                ServerMavenProject serverProject, CloudMavenProject cloudProject, ProgressIndicator indicator) {
+            if (!MavenDaemon.isEnabled(project)) {
+                return;
+            }
+            PsiFile pom = microProject instanceof MicroMavenProject ? microProject.getBuildFile()
+                    : serverProject != null ? serverProject.getBuildFile()
+                    : cloudProject != null ? cloudProject.getBuildFile() : null;
+            VirtualFile directory = pom != null && pom.getVirtualFile() != null ? pom.getVirtualFile().getParent() : null;
+            if (directory != null && directory.isInLocalFileSystem()) {
+                MavenDaemon.warmUp(project, directory.toNioPath(), indicator);
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.server.actions;
+
+import com.intellij.execution.RunManager;
+import com.intellij.execution.RunnerAndConfigurationSettings;
+import com.intellij.execution.configurations.RunConfiguration;
+import com.intellij.notification.Notification;
+import com.intellij.notification.NotificationListener;
+import com.intellij.notification.NotificationType;
+import com.intellij.notification.Notifications;
+import com.intellij.openapi.actionSystem.ActionUpdateThread;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.module.Module;
+import com.intellij.openapi.module.ModuleUtilCore;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VirtualFile;
+import fish.payara.PayaraBundle;
+import fish.payara.PayaraConstants;
+import fish.payara.execution.ExplodedWarSync;
+import fish.payara.project.PayaraProjectService;
+import fish.payara.server.maven.AdminRestClient;
+import fish.payara.server.maven.ServerMavenConfiguration;
+import fish.payara.server.maven.ServerMavenProject;
+import fish.payara.util.MavenModelUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.concurrency.Promise;
+import org.jetbrains.idea.maven.project.MavenProject;
+
+import static fish.payara.PayaraConstants.DEFAULT_ADMIN_PORT;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Compiles the changed classes with the IDE, syncs them into the exploded
+ * war and redeploys it to the running domain of the Payara Server run
+ * configuration through the admin REST API, without a Maven run.
+ */
+public class ServerRedeployAction extends AnAction {
+
+    private static final Logger LOG = Logger.getLogger(ServerRedeployAction.class.getName());
+
+    private static final String DEFAULT_HOST = "localhost";
+    private static final String DEFAULT_PROTOCOL = "http";
+    private static final int COMPILE_TIMEOUT = 5;
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        e.getPresentation().setEnabled(project != null && findConfiguration(project) != null);
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getProject();
+        ServerMavenConfiguration configuration = project != null ? findConfiguration(project) : null;
+        if (configuration == null) {
+            return;
+        }
+        new Task.Backgroundable(project, PayaraBundle.message("ServerRedeployAction.task.title"), true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                try {
+                    long start = System.nanoTime();
+                    String message = redeploy(project, configuration, indicator);
+                    showNotification(project, NotificationType.INFORMATION, PayaraBundle.message("ServerRedeployAction.success",
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), message));
+                } catch (IOException ex) {
+                    LOG.log(WARNING, "Redeploy failed", ex);
+                    showNotification(project, NotificationType.ERROR, ex.getMessage());
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.queue();
+    }
+
+    private static String redeploy(Project project, ServerMavenConfiguration configuration, ProgressIndicator indicator)
+            throws IOException, InterruptedException {
+        ServerMavenProject serverProject = PayaraProjectService.getInstance(project).getServerProject();
+        MavenProject mavenProject = serverProject != null
+                ? MavenModelUtil.findProject(project, serverProject.getBuildFile()) : null;
+        if (mavenProject == null || mavenProject.getFinalName() == null) {
+            throw new IOException(PayaraBundle.message("ServerRedeployAction.noProject"));
+        }
+        ExplodedWarSync sync = ExplodedWarSync.of(mavenProject);
+        Path explodedDirectory = sync.getExplodedDirectory();
+        if (!Files.isDirectory(explodedDirectory)) {
+            throw new IOException(PayaraBundle.message("ServerRedeployAction.notExploded", explodedDirectory));
+        }
+        indicator.setText(PayaraBundle.message("ServerRedeployAction.compile"));
+        compile(project, serverProject.getBuildFile().getVirtualFile());
+        sync.sync();
+        // the links of the exploded war show the new build output
+        serverProject.completeBuild();
+        indicator.checkCanceled();
+
+        indicator.setText(PayaraBundle.message("ServerRedeployAction.redeploy"));
+        AdminRestClient client = new AdminRestClient(
+                valueOrDefault(configuration.getProtocol(), DEFAULT_PROTOCOL),
+                valueOrDefault(configuration.getHost(), DEFAULT_HOST),
+                getAdminPort(configuration),
+                configuration.getUser(),
+                configuration.getPassword());
+        String name = mavenProject.getFinalName();
+        // a local domain reads the directory in place, a remote one gets an upload
+        return configuration.isRemote()
+                ? client.redeployArchive(name, explodedDirectory, configuration.getContextRoot())
+                : client.redeployDirectory(name, explodedDirectory, configuration.getContextRoot());
+    }
+
+    private static void compile(Project project, VirtualFile buildFile) throws IOException {
+        Module module = buildFile != null
+                ? ReadAction.compute(() -> ModuleUtilCore.findModuleForFile(buildFile, project)) : null;
+        if (module == null) {
+            return;
+        }
+        Promise<Boolean> promise = ExplodedWarSync.compile(project, module);
+        Boolean compiled;
+        try {
+            compiled = promise.blockingGet((int) TimeUnit.MINUTES.toMillis(COMPILE_TIMEOUT), TimeUnit.MILLISECONDS);
+        } catch (Exception ex) {
+            throw new IOException(PayaraBundle.message("ServerRedeployAction.compile.failed"), ex);
+        }
+        if (!Boolean.TRUE.equals(compiled)) {
+            throw new IOException(PayaraBundle.message("ServerRedeployAction.compile.failed"));
+        }
+    }
+
+    private static int getAdminPort(ServerMavenConfiguration configuration) throws IOException {
+        String adminPort = valueOrDefault(configuration.getAdminPort(), String.valueOf(DEFAULT_ADMIN_PORT));
+        try {
+            return Integer.parseInt(adminPort);
+        } catch (NumberFormatException ex) {
+            throw new IOException(PayaraBundle.message("ServerRedeployAction.invalidPort", adminPort), ex);
+        }
+    }
+
+    private static String valueOrDefault(String value, String defaultValue) {
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    /**
+     * @return the selected Payara Server run configuration, or the first one
+     */
+    @Nullable
+    private static ServerMavenConfiguration findConfiguration(Project project) {
+        RunManager runManager = RunManager.getInstance(project);
+        RunnerAndConfigurationSettings selected = runManager.getSelectedConfiguration();
+        if (selected != null && selected.getConfiguration() instanceof ServerMavenConfiguration) {
+            return (ServerMavenConfiguration) selected.getConfiguration();
+        }
+        for (RunConfiguration configuration : runManager.getAllConfigurationsList()) {
+            if (configuration instanceof ServerMavenConfiguration) {
+                return (ServerMavenConfiguration) configuration;
+            }
+        }
+        return null;
+    }
+
+    private static void showNotification(Project project, NotificationType type, String message) {
+        Notifications.Bus.notify(
+                new Notification(
+                        PayaraBundle.message("ServerRedeployAction.notification.group"),
+                        PayaraConstants.PAYARA_ICON,
+                        PayaraBundle.message("ServerRedeployAction.notification.title"),
+                        "",
+                        message,
+                        type,
+                        NotificationListener.URL_OPENING_LISTENER
+                ), project);
+    }
+
+    @Override
+    public @NotNull ActionUpdateThread getActionUpdateThread() {
+        return ActionUpdateThread.BGT;
+    }
+}
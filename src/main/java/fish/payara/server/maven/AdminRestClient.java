@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.server.maven;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Redeploys an application to a running Payara Server domain through the
+ * admin REST API, without a Maven run.
+ * <p>
+ * The requests share one HTTP client, so the connections to the admin port
+ * are kept alive and reused across the redeploys.
+ */
+public final class AdminRestClient {
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private static final Duration DEPLOY_TIMEOUT = Duration.ofMinutes(5);
+    private static final String APPLICATIONS_PATH = "/management/domain/applications/application";
+    /**
+     * Required by the admin REST API to accept the modifying requests.
+     */
+    private static final String REQUESTED_BY_HEADER = "X-Requested-By";
+    private static final String KEEP_STATE = "keepstate";
+    private static final Pattern MESSAGE = Pattern.compile("\"message\"\\s*:\\s*\"((?:[^\"\\\\]|\\\\.)*)\"");
+    private static final Pattern FAILURE = Pattern.compile("\"exit_code\"\\s*:\\s*\"FAILURE\"");
+
+    private final URI applicationsUri;
+    private final String authorization;
+
+    /**
+     * @param protocol http or https
+     * @param host the admin host
+     * @param adminPort the admin port
+     * @param user the admin user, null if the admin is not secured
+     * @param password the admin password
+     */
+    public AdminRestClient(@NotNull String protocol, @NotNull String host, int adminPort,
+            @Nullable String user, @Nullable String password) {
+        this.applicationsUri = URI.create(String.format("%s://%s:%d%s", protocol, host, adminPort, APPLICATIONS_PATH));
+        this.authorization = user == null || user.isBlank() ? null : "Basic " + Base64.getEncoder()
+                .encodeToString((user + ':' + (password != null ? password : "")).getBytes(UTF_8));
+    }
+
+    /**
+     * Redeploys an exploded directory readable by the server, i.e. on the
+     * same machine. The server reads the directory in place, nothing is
+     * uploaded.
+     *
+     * @param name the application name
+     * @param directory the exploded war
+     * @param contextRoot the context root, null for the default
+     * @return the message of the server
+     * @throws IOException if the redeploy failed
+     * @throws InterruptedException if interrupted while waiting for the server
+     */
+    @NotNull
+    public String redeployDirectory(@NotNull String name, @NotNull Path directory, @Nullable String contextRoot)
+            throws IOException, InterruptedException {
+        Map<String, String> parameters = getParameters(name, contextRoot);
+        parameters.put("id", directory.toAbsolutePath().toString());
+        try {
+            return send(formRequest(parameters));
+        } catch (KeepStateException ex) {
+            parameters.remove(KEEP_STATE);
+            return send(formRequest(parameters));
+        }
+    }
+
+    /**
+     * Archives the exploded directory, following the links of the linked
+     * layout, and uploads it, for the remote servers.
+     *
+     * @param name the application name
+     * @param directory the exploded war
+     * @param contextRoot the context root, null for the default
+     * @return the message of the server
+     * @throws IOException if the redeploy failed
+     * @throws InterruptedException if interrupted while waiting for the server
+     */
+    @NotNull
+    public String redeployArchive(@NotNull String name, @NotNull Path directory, @Nullable String contextRoot)
+            throws IOException, InterruptedException {
+        Path archive = Files.createTempFile(name, ".war");
+        try {
+            archive(directory, archive);
+            Map<String, String> parameters = getParameters(name, contextRoot);
+            try {
+                return send(multipartRequest(parameters, archive));
+            } catch (KeepStateException ex) {
+                parameters.remove(KEEP_STATE);
+                return send(multipartRequest(parameters, archive));
+            }
+        } finally {
+            Files.deleteIfExists(archive);
+        }
+    }
+
+    private static Map<String, String> getParameters(String name, String contextRoot) {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("name", name);
+        parameters.put("force", "true");
+        parameters.put(KEEP_STATE, "true");
+        if (contextRoot != null && !contextRoot.isBlank()) {
+            parameters.put("contextroot", contextRoot);
+        }
+        return parameters;
+    }
+
+    private HttpRequest formRequest(Map<String, String> parameters) {
+        String form = parameters.entrySet().stream()
+                .map(entry -> URLEncoder.encode(entry.getKey(), UTF_8) + '=' + URLEncoder.encode(entry.getValue(), UTF_8))
+                .collect(Collectors.joining("&"));
+        return request("application/x-www-form-urlencoded", BodyPublishers.ofString(form));
+    }
+
+    private HttpRequest multipartRequest(Map<String, String> parameters, Path archive) throws IOException {
+        String boundary = UUID.randomUUID().toString();
+        StringBuilder fields = new StringBuilder();
+        for (Map.Entry<String, String> entry : parameters.entrySet()) {
+            fields.append("--").append(boundary).append("\r\n")
+                    .append("Content-Disposition: form-data; name=\"").append(entry.getKey()).append("\"\r\n\r\n")
+                    .append(entry.getValue()).append("\r\n");
+        }
+        fields.append("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"id\"; filename=\"").append(archive.getFileName()).append("\"\r\n")
+                .append("Content-Type: application/octet-stream\r\n\r\n");
+        BodyPublisher body = BodyPublishers.concat(
+                BodyPublishers.ofString(fields.toString(), UTF_8),
+                BodyPublishers.ofFile(archive),
+                BodyPublishers.ofString("\r\n--" + boundary + "--\r\n", UTF_8));
+        return request("multipart/form-data; boundary=" + boundary, body);
+    }
+
+    private HttpRequest request(String contentType, BodyPublisher body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(applicationsUri)
+                .timeout(DEPLOY_TIMEOUT)
+                .header("Accept", "application/json")
+                .header("Content-Type", contentType)
+                .header(REQUESTED_BY_HEADER, "payara-intellij-plugin")
+                .POST(body);
+        if (authorization != null) {
+            builder.header("Authorization", authorization);
+        }
+        return builder.build();
+    }
+
+    private static String send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = CLIENT.send(request, BodyHandlers.ofString(UTF_8));
+        String body = response.body();
+        Matcher matcher = MESSAGE.matcher(body);
+        String message = matcher.find() ? matcher.group(1).replace("\\n", "\n").replace("\\\"", "\"") : body;
+        if (response.statusCode() / 100 != 2 || FAILURE.matcher(body).find()) {
+            if (message.contains(KEEP_STATE)) {
+                throw new KeepStateException(message);
+            }
+            throw new IOException(String.format("HTTP %d: %s", response.statusCode(), message));
+        }
+        return message;
+    }
+
+    private static void archive(Path directory, Path archive) throws IOException {
+        try (OutputStream output = Files.newOutputStream(archive);
+                ZipOutputStream zip = new ZipOutputStream(output);
+                Stream<Path> files = Files.walk(directory, FileVisitOption.FOLLOW_LINKS)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (Files.isRegularFile(file)) {
+                    zip.putNextEntry(new ZipEntry(directory.relativize(file).toString().replace('\\', '/')));
+                    Files.copy(file, zip);
+                    zip.closeEntry();
+                }
+            }
+        }
+    }
+
+    /**
+     * The server does not support the keep state option of the redeploy.
+     */
+    private static final class KeepStateException extends IOException {
+
+        private KeepStateException(String message) {
+            super(message);
+        }
+    }
+}
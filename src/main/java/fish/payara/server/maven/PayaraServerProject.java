@@ -20,6 +20,7 @@ import com.intellij.openapi.extensions.PluginId;
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiFile;
 import com.intellij.util.ReflectionUtil;
+import fish.payara.execution.BuildCommand;
 import org.jetbrains.annotations.NotNull;
 /**
  *
@@ -50,6 +51,13 @@ public abstract class PayaraServerProject {
 
     public abstract String getProjectName();
 
-    public abstract String getStartCommand(boolean debug);
+    public abstract BuildCommand getStartCommand(boolean debug);
+
+    /**
+     * Completes the exploded war once the IDE or the build tool built it,
+     * called off the EDT.
+     */
+    public void completeBuild() {
+    }
 
 }
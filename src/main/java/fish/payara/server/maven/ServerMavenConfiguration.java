@@ -22,6 +22,7 @@ import com.intellij.execution.configurations.RemoteConnectionCreator;
 import com.intellij.execution.configurations.RunConfiguration;
 import com.intellij.openapi.options.SettingsEditor;
 import com.intellij.openapi.project.Project;
+import fish.payara.project.PayaraProjectService;
 import static fish.payara.PayaraConstants.DEFAULT_DEBUG_PORT;
 import java.util.HashMap;
 import java.util.Map;
@@ -338,7 +339,7 @@ public class ServerMavenConfiguration extends MavenRunConfiguration {
                 parameters.setWorkingDirPath(super.getProject().getBasePath());
             }
             if (parameters.getGoals().isEmpty()) {
-                ServerMavenProject mavenProject = ServerMavenProject.getInstance(super.getProject());
+                ServerMavenProject mavenProject = PayaraProjectService.getInstance(super.getProject()).getServerProject();
                 if (mavenProject == null) {
                     parameters.getGoals().add(ServerMavenProject.PACKAGE_GOAL);
                     parameters.getGoals().add(String.format("%s:%s:%s:%s",
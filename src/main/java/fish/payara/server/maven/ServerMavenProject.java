@@ -18,17 +18,20 @@ package fish.payara.server.maven;
 
 import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiFile;
-import com.intellij.psi.search.FilenameIndex;
-import com.intellij.psi.search.GlobalSearchScope;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
-import javax.xml.parsers.ParserConfigurationException;
+import fish.payara.execution.BuildCommand;
+import fish.payara.execution.LinkedExplodedWar;
+import fish.payara.execution.PayaraExecutionSettings;
+import fish.payara.project.PayaraPluginClassifier;
+import fish.payara.project.PayaraPluginDescriptor;
+import fish.payara.util.MavenModelUtil;
+import fish.payara.util.MavenUtil;
 import java.io.IOException;
+import java.util.Map;
 import java.util.logging.Logger;
+import org.jetbrains.idea.maven.project.MavenProject;
 import static fish.payara.PayaraConstants.DEFAULT_DEBUG_PORT;
-import fish.payara.util.MavenUtil;
-import static java.util.logging.Level.SEVERE;
+import static fish.payara.project.PayaraPluginKind.SERVER;
+import static java.util.logging.Level.WARNING;
 
 /**
  * @author gaurav.gupta@payara.fish
@@ -48,126 +51,102 @@ public class ServerMavenProject extends PayaraServerProject {
     private static final String RESOURCES_GOAL = "resources:resources";
     public static final String PACKAGE_GOAL = "package";
     public static final String DEBUG_PROPERTY = "-Dpayara.debug=-agentlib:jdwp=transport=dt_socket,server=n,suspend=n,address=%s";
-    private static final String BUILD_FILE = "pom.xml";
-    private static final String EXPLODED = "exploded";
+    public static final String EXPLODED = "exploded";
     private static final String EXPLODED_PROPERTY = "-Dpayara.exploded=true";
     private boolean exploded;
+    private String projectName;
 
     @Override
-    public String getStartCommand(boolean debug) {
-        String cmd;
+    public BuildCommand getStartCommand(boolean debug) {
+        BuildCommand cmd;
         if (exploded) {
             cmd = getStartExplodedWarCommand();
         } else {
-            cmd = String.format("mvn %s %s:%s:%s:%s",
-                    PACKAGE_GOAL,
-                    SERVER_PLUGIN_GROUP_ID, SERVER_PLUGIN_ARTIFACT_ID, SERVER_PLUGIN_VERSION, DEV_GOAL
-            );
+            cmd = BuildCommand.maven(PACKAGE_GOAL).then(getPluginCommand(DEV_GOAL).blocking());
         }
-        return debug ? cmd + ' ' + DEBUG_PROPERTY : cmd;
+        return debug ? cmd.withDefinition(String.format(DEBUG_PROPERTY, DEFAULT_DEBUG_PORT)) : cmd;
     }
 
-    private String getStartExplodedWarCommand() {
-        return String.format("mvn %s %s %s %s:%s:%s:%s %s",
-                RESOURCES_GOAL,
-                COMPILE_GOAL,
-                WAR_EXPLODE_GOAL,
-                SERVER_PLUGIN_GROUP_ID, SERVER_PLUGIN_ARTIFACT_ID, SERVER_PLUGIN_VERSION, DEV_GOAL,
-                EXPLODED_PROPERTY
-        );
+    private BuildCommand getStartExplodedWarCommand() {
+        return getExplodeCommand()
+                .then(getPluginCommand(DEV_GOAL).blocking())
+                .withDefinition(EXPLODED_PROPERTY);
     }
 
-    public static ServerMavenProject getInstance(Project project) {
-        PsiFile pom = getPomFile(project);
-        if (pom != null) {
-            return new ServerMavenProject(project, pom);
+    /**
+     * @return the goals updating the exploded war from the sources, the
+     * linked layout only needs the build output
+     */
+    private BuildCommand getExplodeCommand() {
+        if (PayaraExecutionSettings.isLinkedLayoutEnabled(getProject())) {
+            return BuildCommand.maven(RESOURCES_GOAL, COMPILE_GOAL);
         }
-        return null;
-    }
-
-    public ServerMavenProject(Project project, PsiFile pom) {
-        super(project, pom);
-        parsePom();
+        return BuildCommand.maven(RESOURCES_GOAL, COMPILE_GOAL, WAR_EXPLODE_GOAL);
     }
 
     /**
-     * Return the project name from pom.xml artifactId
-     *
-     * @return
+     * Refreshes the links of the exploded war in the linked layout, so the
+     * hard links and the copies show the new build output.
      */
     @Override
-    public String getProjectName() {
-       return MavenUtil.getProjectName(super.getBuildFile());
+    public void completeBuild() {
+        if (!exploded || !PayaraExecutionSettings.isLinkedLayoutEnabled(getProject())) {
+            return;
+        }
+        MavenProject mavenProject = MavenModelUtil.findProject(getProject(), getBuildFile());
+        if (mavenProject == null || mavenProject.getFinalName() == null) {
+            return;
+        }
+        try {
+            LinkedExplodedWar.of(getProject(), mavenProject).refresh();
+        } catch (IOException ex) {
+            LOG.log(WARNING, "Unable to link the exploded war of " + getProjectName(), ex);
+        }
     }
 
-    /**
-     * @param project
-     * @return the pom.xml file
-     */
-    private static PsiFile getPomFile(Project project) {
-        PsiFile[] poms = FilenameIndex.getFilesByName(project, BUILD_FILE, GlobalSearchScope.projectScope(project));
-        for (PsiFile pom : poms) {
-            if (isValidPom(pom)) {
-                return pom;
-            }
-        }
-        return null;
+    private static BuildCommand getPluginCommand(String goal) {
+        return BuildCommand.maven(String.format("%s:%s:%s:%s",
+                SERVER_PLUGIN_GROUP_ID, SERVER_PLUGIN_ARTIFACT_ID, SERVER_PLUGIN_VERSION, goal));
+    }
+
+    public static ServerMavenProject getInstance(Project project) {
+        return getInstance(project, PayaraPluginClassifier.classify(project));
     }
 
     /**
-     * @param pomFile the pom.xml file
-     * @return true if pom.xml file includes Payara Server Maven plugin
+     * @param project the project
+     * @param descriptors the classified pom.xml files of the project
+     * @return the first project declaring the plugin or null
      */
-    private static boolean isValidPom(PsiFile pomFile) {
-        try {
-            Node pomRoot = MavenUtil.getPomRootNode(pomFile);
-            return MavenUtil.getBuildNodes(pomRoot)
-                    .stream()
-                    .anyMatch(ServerMavenProject::isServerPlugin);
-        } catch (ParserConfigurationException | SAXException | IOException ex) {
-            LOG.log(SEVERE, null, ex);
-        }
-        return false;
+    public static ServerMavenProject getInstance(Project project, Map<PsiFile, PayaraPluginDescriptor> descriptors) {
+        return descriptors.entrySet().stream()
+                .filter(entry -> entry.getValue().hasKind(SERVER))
+                .findFirst()
+                .map(entry -> new ServerMavenProject(project, entry.getKey(), entry.getValue()))
+                .orElse(null);
+    }
 
+    public ServerMavenProject(Project project, PsiFile pom) {
+        this(project, pom, PayaraPluginClassifier.classify(pom));
     }
 
-    /**
-     * @param buildNode
-     * @return true if pom.xml file includes Payara Server Maven plugin
-     */
-    private static boolean isServerPlugin(Node buildNode) {
-        return MavenUtil.getPluginNode(buildNode, SERVER_PLUGIN_GROUP_ID, SERVER_PLUGIN_ARTIFACT_ID) != null;
+    private ServerMavenProject(Project project, PsiFile pom, PayaraPluginDescriptor descriptor) {
+        super(project, pom);
+        this.projectName = descriptor.getProjectName();
+        this.exploded = descriptor.isFlagEnabled(SERVER, EXPLODED);
     }
 
     /**
-     * Parse the pom.xml to read the configuration of Payara Server Maven plugin.
+     * Return the project name from pom.xml name or artifactId
+     *
+     * @return
      */
-    private void parsePom() {
-        try {
-            Node pomRoot = MavenUtil.getPomRootNode(super.getBuildFile());
-            for (Node buildNode : MavenUtil.getBuildNodes(pomRoot)) {
-                Node plugin = MavenUtil.getPluginNode(buildNode, SERVER_PLUGIN_GROUP_ID, SERVER_PLUGIN_ARTIFACT_ID);
-                if (plugin == null) {
-                    continue;
-                }
-                NodeList pluginChildNodes = plugin.getChildNodes();
-                for (int i = 0; i < pluginChildNodes.getLength(); i++) {
-                    Node configurationNode = pluginChildNodes.item(i);
-                    if (configurationNode.getNodeName().equals("configuration")) {
-                        NodeList configurationChildNodes = configurationNode.getChildNodes();
-                        for (int j = 0; j < configurationChildNodes.getLength(); j++) {
-                            Node param = configurationChildNodes.item(j);
-                              if (param.getNodeName().equals(EXPLODED)
-                                    && param.getTextContent().equals("true")) {
-                                exploded = true;
-                            }
-                        }
-                    }
-                }
-            }
-        } catch (Exception ex) {
-            LOG.log(SEVERE, super.getBuildFile().getVirtualFile().getPath(), ex);
+    @Override
+    public String getProjectName() {
+        if (projectName == null) {
+            projectName = MavenUtil.getProjectName(super.getBuildFile());
         }
+        return projectName;
     }
 
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.util;
+
+import com.intellij.util.concurrency.AppExecutorUtil;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Logs the Payara actions holding the EDT for more than 100 ms, with the EDT
+ * stack trace at the time the threshold is crossed.
+ */
+public final class EdtWatchdog {
+
+    private static final Logger LOG = Logger.getLogger(EdtWatchdog.class.getName());
+
+    private static final long THRESHOLD_MILLIS = 100;
+
+    private EdtWatchdog() {
+    }
+
+    /**
+     * @param name the action name
+     * @param task the EDT part of the action
+     */
+    public static void run(String name, Runnable task) {
+        Thread edt = Thread.currentThread();
+        long start = System.nanoTime();
+        ScheduledFuture<?> check = AppExecutorUtil.getAppScheduledExecutorService().schedule(() -> {
+            Throwable trace = new Throwable("EDT stack trace");
+            trace.setStackTrace(edt.getStackTrace());
+            LOG.log(WARNING, String.format("%s is holding the EDT for more than %d ms", name, THRESHOLD_MILLIS), trace);
+        }, THRESHOLD_MILLIS, TimeUnit.MILLISECONDS);
+        try {
+            task.run();
+        } finally {
+            check.cancel(false);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (elapsed > THRESHOLD_MILLIS) {
+                LOG.warning(String.format("%s held the EDT for %d ms", name, elapsed));
+            }
+        }
+    }
+}
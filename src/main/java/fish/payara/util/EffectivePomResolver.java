@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.util;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import fish.payara.util.PomScanner.ParentInfo;
+import fish.payara.util.PomScanner.PomInfo;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import javax.xml.stream.XMLStreamException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import static java.util.logging.Level.WARNING;
+
+/**
+ * Resolves the plugin declaration and configuration of a pom.xml including
+ * everything inherited through its parent chain, the way the effective POM
+ * would expose it.
+ * <p>
+ * Every pom.xml of the chain is scanned once and memoized by path and
+ * modification stamp, so sibling modules sharing a parent only pay a file
+ * stat for it. The memo belongs to the project service owning the resolver,
+ * which clears it along with its own cache.
+ */
+public final class EffectivePomResolver {
+
+    private static final Logger LOG = Logger.getLogger(EffectivePomResolver.class.getName());
+
+    private static final String BUILD_FILE = "pom.xml";
+    private static final String DEFAULT_RELATIVE_PATH = "../" + BUILD_FILE;
+    private static final String PROPERTY_PREFIX = "${";
+    private static final int MAX_DEPTH = 16;
+
+    private final Map<String, Scan> scans = new ConcurrentHashMap<>();
+
+    private final Set<Path> scannedPoms = ConcurrentHashMap.newKeySet();
+
+    private final Supplier<File> localRepository;
+
+    /**
+     * @param localRepository the local repository configured in the IDE,
+     * looked up on each parent resolution as it may change with the Maven
+     * settings
+     */
+    public EffectivePomResolver(@NotNull Supplier<File> localRepository) {
+        this.localRepository = localRepository;
+    }
+
+    /**
+     * @param pomFile the pom.xml file
+     * @param scanner the plugin query
+     * @return the effective scan result or null if the pom.xml is not
+     * readable
+     */
+    @Nullable
+    public PomInfo resolve(@NotNull PsiFile pomFile, @NotNull PomScanner scanner) {
+        VirtualFile file = pomFile.getVirtualFile();
+        if (file == null || !file.isInLocalFileSystem()) {
+            return null;
+        }
+        return resolve(Paths.get(file.getPath()), scanner);
+    }
+
+    /**
+     * @param pom the pom.xml path
+     * @param scanner the plugin query
+     * @return the effective scan result or null if the pom.xml is not
+     * readable
+     */
+    @Nullable
+    public PomInfo resolve(@NotNull Path pom, @NotNull PomScanner scanner) {
+        Path normalized = pom.toAbsolutePath().normalize();
+        Set<Path> visited = new HashSet<>();
+        visited.add(normalized);
+        PomInfo pomInfo = scan(normalized, scanner);
+        return pomInfo != null ? inherit(normalized, pomInfo, scanner.forParent(), visited) : null;
+    }
+
+    private PomInfo inherit(Path pom, PomInfo pomInfo, PomScanner parentScanner, Set<Path> visited) {
+        ParentInfo parent = pomInfo.getParent();
+        if (parent == null || visited.size() > MAX_DEPTH) {
+            return pomInfo;
+        }
+        Path parentPom = locateParent(pom, parent, parentScanner);
+        if (parentPom == null || !visited.add(parentPom)) {
+            return pomInfo;
+        }
+        PomInfo parentInfo = scan(parentPom, parentScanner);
+        if (parentInfo == null) {
+            return pomInfo;
+        }
+        return pomInfo.inherit(inherit(parentPom, parentInfo, parentScanner, visited));
+    }
+
+    /**
+     * Locate the parent pom.xml by its relativePath (default
+     * {@code ../pom.xml}) and then in the local repository.
+     */
+    private Path locateParent(Path pom, ParentInfo parent, PomScanner parentScanner) {
+        String relativePath = parent.getRelativePath();
+        if (relativePath == null) {
+            relativePath = DEFAULT_RELATIVE_PATH;
+        }
+        if (!relativePath.isEmpty()) {
+            Path candidate = pom.getParent().resolve(relativePath).normalize();
+            if (Files.isDirectory(candidate)) {
+                candidate = candidate.resolve(BUILD_FILE);
+            }
+            PomInfo candidateInfo = scan(candidate, parentScanner);
+            if (candidateInfo != null && parent.getArtifactId() != null
+                    && parent.getArtifactId().equals(candidateInfo.getArtifactId())) {
+                return candidate;
+            }
+        }
+        Path repositoryPom = getRepositoryPom(parent);
+        return repositoryPom != null && Files.isRegularFile(repositoryPom) ? repositoryPom : null;
+    }
+
+    private Path getRepositoryPom(ParentInfo parent) {
+        String groupId = parent.getGroupId();
+        String artifactId = parent.getArtifactId();
+        String version = parent.getVersion();
+        if (groupId == null || artifactId == null || version == null
+                || version.contains(PROPERTY_PREFIX)) {
+            return null;
+        }
+        File repository = localRepository.get();
+        if (repository == null) {
+            return null;
+        }
+        return repository.toPath().resolve(groupId.replace('.', '/'))
+                .resolve(artifactId)
+                .resolve(version)
+                .resolve(artifactId + '-' + version + ".pom");
+    }
+
+    /**
+     * @return the memoized scan result of a single pom.xml, or null if the
+     * file does not exist or is not readable
+     */
+    private PomInfo scan(Path pom, PomScanner scanner) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(pom, BasicFileAttributes.class);
+        } catch (IOException ex) {
+            return null;
+        }
+        if (!attributes.isRegularFile()) {
+            return null;
+        }
+        long modified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+        String key = pom + "#" + scanner.getQueryKey();
+        Scan cached = scans.get(key);
+        if (cached != null && cached.modified == modified && cached.size == size) {
+            return cached.pomInfo;
+        }
+        try (InputStream input = Files.newInputStream(pom)) {
+            PomInfo pomInfo = scanner.scan(input);
+            scans.put(key, new Scan(modified, size, pomInfo));
+            scannedPoms.add(pom);
+            return pomInfo;
+        } catch (IOException | XMLStreamException ex) {
+            LOG.log(WARNING, pom.toString(), ex);
+        }
+        return null;
+    }
+
+    /**
+     * @param pom the pom.xml path
+     * @return true if the pom.xml was scanned, i.e. it is a resolved pom.xml
+     * or a member of a resolved parent chain
+     */
+    public boolean isScanned(@NotNull Path pom) {
+        return scannedPoms.contains(pom.toAbsolutePath().normalize());
+    }
+
+    /**
+     * Drops the memoized scan results.
+     */
+    public void clear() {
+        scans.clear();
+        scannedPoms.clear();
+    }
+
+    private static final class Scan {
+
+        private final long modified;
+        private final long size;
+        private final PomInfo pomInfo;
+
+        private Scan(long modified, long size, PomInfo pomInfo) {
+            this.modified = modified;
+            this.size = size;
+            this.pomInfo = pomInfo;
+        }
+    }
+}
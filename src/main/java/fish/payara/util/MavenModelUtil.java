@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.util;
+
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.psi.PsiFile;
+import com.intellij.psi.PsiManager;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jdom.Element;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.idea.maven.model.MavenArtifact;
+import org.jetbrains.idea.maven.model.MavenConstants;
+import org.jetbrains.idea.maven.model.MavenId;
+import org.jetbrains.idea.maven.model.MavenPlugin;
+import org.jetbrains.idea.maven.project.MavenProject;
+import org.jetbrains.idea.maven.project.MavenProjectsManager;
+
+/**
+ * Reads the Payara plugin declarations from the Maven model already imported
+ * and cached by the IDE, so no pom.xml is read from disk.
+ */
+public class MavenModelUtil {
+
+    private static final String SOURCES = "src/main";
+    private static final String WAR_PLUGIN_GROUP_ID = "org.apache.maven.plugins";
+    private static final String WAR_PLUGIN_ARTIFACT_ID = "maven-war-plugin";
+    private static final String WAR_TYPE = "war";
+
+    private MavenModelUtil() {
+    }
+
+    /**
+     * @param project the project
+     * @return the pom.xml files with their imported Maven project, or null if
+     * the Maven model is not imported yet
+     */
+    @Nullable
+    public static Map<PsiFile, MavenProject> getProjects(@NotNull Project project) {
+        MavenProjectsManager manager = MavenProjectsManager.getInstance(project);
+        if (!manager.isMavenizedProject() || manager.getProjects().isEmpty()) {
+            return null;
+        }
+        return ReadAction.compute(() -> {
+            PsiManager psiManager = PsiManager.getInstance(project);
+            Map<PsiFile, MavenProject> projects = new LinkedHashMap<>();
+            for (MavenProject mavenProject : manager.getProjects()) {
+                PsiFile pomFile = psiManager.findFile(mavenProject.getFile());
+                if (pomFile != null) {
+                    projects.put(pomFile, mavenProject);
+                }
+            }
+            return projects;
+        });
+    }
+
+    /**
+     * @param project the project
+     * @param pomFile the pom.xml file
+     * @return the imported Maven project of the pom.xml or null
+     */
+    @Nullable
+    public static MavenProject findProject(@NotNull Project project, @NotNull PsiFile pomFile) {
+        if (pomFile.getVirtualFile() == null) {
+            return null;
+        }
+        return MavenProjectsManager.getInstance(project).findProject(pomFile.getVirtualFile());
+    }
+
+    /**
+     * The inputs of a build read from outside the project directory: the
+     * parent poms up to the first one outside the reactor, and the non-test
+     * dependencies. A dependency on a reactor module stands for its pom.xml
+     * and sources, any other one for its resolved file.
+     *
+     * @param project the project
+     * @param mavenProject the Maven project
+     * @return the files and directories, in a stable order
+     */
+    @NotNull
+    public static List<Path> getBuildInputs(@NotNull Project project, @NotNull MavenProject mavenProject) {
+        MavenProjectsManager manager = MavenProjectsManager.getInstance(project);
+        List<Path> inputs = new ArrayList<>();
+        Set<MavenId> visited = new HashSet<>();
+        MavenId parentId = mavenProject.getParentId();
+        while (parentId != null && visited.add(parentId)) {
+            MavenProject parent = manager.findProject(parentId);
+            if (parent == null) {
+                File repository = manager.getLocalRepository();
+                if (repository != null && parentId.getGroupId() != null && parentId.getArtifactId() != null
+                        && parentId.getVersion() != null) {
+                    inputs.add(repository.toPath()
+                            .resolve(parentId.getGroupId().replace('.', '/'))
+                            .resolve(parentId.getArtifactId())
+                            .resolve(parentId.getVersion())
+                            .resolve(parentId.getArtifactId() + '-' + parentId.getVersion() + ".pom"));
+                }
+                break;
+            }
+            inputs.add(Path.of(parent.getPath()));
+            parentId = parent.getParentId();
+        }
+        for (MavenArtifact dependency : mavenProject.getDependencies()) {
+            if (MavenConstants.SCOPE_TEST.equals(dependency.getScope())) {
+                continue;
+            }
+            MavenProject module = manager.findProject(dependency.getMavenId());
+            if (module != null) {
+                inputs.add(Path.of(module.getPath()));
+                inputs.add(Path.of(module.getDirectory(), SOURCES));
+            } else if (dependency.getFile() != null) {
+                inputs.add(dependency.getFile().toPath());
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * @param mavenProject the Maven project
+     * @return the project name, or the artifactId if the name is not defined
+     */
+    public static String getProjectName(@NotNull MavenProject mavenProject) {
+        String name = mavenProject.getName();
+        return name != null && !name.isBlank() ? name : mavenProject.getMavenId().getArtifactId();
+    }
+
+    /**
+     * @param plugin the Maven plugin
+     * @return the simple configuration values of the plugin
+     */
+    public static Map<String, String> getConfiguration(@NotNull MavenPlugin plugin) {
+        Map<String, String> configuration = new HashMap<>();
+        Element configurationElement = plugin.getConfigurationElement();
+        if (configurationElement != null) {
+            for (Element child : configurationElement.getChildren()) {
+                configuration.put(child.getName(), child.getTextTrim());
+            }
+        }
+        return configuration;
+    }
+
+    /**
+     * @param mavenProject the Maven project
+     * @return true if the war plugin does more than copying
+     * {@code src/main/webapp}, i.e. it filters or adds web resources or
+     * overlays another war, so the webapp sources do not match its output
+     */
+    public static boolean isWebappProcessed(@NotNull MavenProject mavenProject) {
+        for (MavenArtifact dependency : mavenProject.getDependencies()) {
+            // a war dependency is an implicit overlay
+            if (WAR_TYPE.equals(dependency.getType())) {
+                return true;
+            }
+        }
+        MavenPlugin plugin = mavenProject.findPlugin(WAR_PLUGIN_GROUP_ID, WAR_PLUGIN_ARTIFACT_ID);
+        if (plugin == null) {
+            return false;
+        }
+        Map<String, String> configuration = getConfiguration(plugin);
+        return configuration.containsKey("overlays")
+                || configuration.containsKey("webResources")
+                || Boolean.parseBoolean(configuration.get("filteringDeploymentDescriptors"));
+    }
+}
@@ -0,0 +1,448 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.util;
+
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiFile;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+/**
+ * Streaming pom.xml scanner that reads the project name, the parent reference
+ * and the declaration and configuration flags of any number of plugins in one
+ * forward pass.
+ * <p>
+ * The scan stops as soon as everything requested has been seen, e.g. the
+ * detection of a single plugin ends at its {@code plugin} element.
+ */
+public final class PomScanner {
+
+    private static final XMLInputFactory FACTORY = createFactory();
+
+    private static final String PROJECT = "project";
+    private static final String PARENT = "parent";
+    private static final String PROFILES = "profiles";
+    private static final String PROFILE = "profile";
+    private static final String BUILD = "build";
+    private static final String PLUGIN_MANAGEMENT = "pluginManagement";
+    private static final String PLUGINS = "plugins";
+    private static final String PLUGIN = "plugin";
+    private static final String CONFIGURATION = "configuration";
+    private static final String GROUP_ID = "groupId";
+    private static final String ARTIFACT_ID = "artifactId";
+    private static final String VERSION = "version";
+    private static final String RELATIVE_PATH = "relativePath";
+    private static final String NAME = "name";
+    private static final String TRUE = "true";
+
+    private final Map<String, Set<String>> plugins = new LinkedHashMap<>();
+    private boolean name;
+
+    private PomScanner() {
+    }
+
+    /**
+     * @return scanner looking for nothing yet
+     */
+    public static PomScanner create() {
+        return new PomScanner();
+    }
+
+    /**
+     * @return scanner looking for the project name only
+     */
+    public static PomScanner forName() {
+        return new PomScanner().withName();
+    }
+
+    /**
+     * Also read the project name (or artifactId).
+     *
+     * @return this scanner
+     */
+    public PomScanner withName() {
+        this.name = true;
+        return this;
+    }
+
+    /**
+     * Also read the declaration and the boolean configuration flags of a
+     * plugin.
+     *
+     * @param groupId the plugin groupId
+     * @param artifactId the plugin artifactId
+     * @param flags the configuration element names
+     * @return this scanner
+     */
+    public PomScanner withPlugin(String groupId, String artifactId, String... flags) {
+        Collections.addAll(
+                plugins.computeIfAbsent(getPluginKey(groupId, artifactId), key -> new HashSet<>()),
+                flags
+        );
+        return this;
+    }
+
+    /**
+     * @return the same plugin query without the project name, as used for
+     * the parent poms
+     */
+    PomScanner forParent() {
+        PomScanner scanner = new PomScanner();
+        plugins.forEach((key, flags) -> scanner.plugins.put(key, new HashSet<>(flags)));
+        return scanner;
+    }
+
+    /**
+     * @return the key identifying the result of this query for a pom.xml
+     */
+    String getQueryKey() {
+        List<String> query = new ArrayList<>();
+        plugins.forEach((key, flags) -> {
+            List<String> sortedFlags = new ArrayList<>(flags);
+            Collections.sort(sortedFlags);
+            query.add(key + sortedFlags);
+        });
+        Collections.sort(query);
+        return query.toString() + ':' + name;
+    }
+
+    private static String getPluginKey(String groupId, String artifactId) {
+        return groupId + ':' + artifactId;
+    }
+
+    public PomInfo scan(PsiFile pomFile) throws IOException, XMLStreamException {
+        VirtualFile virtualFile = pomFile.getVirtualFile();
+        if (virtualFile == null) {
+            return new PomInfo();
+        }
+        try (InputStream input = virtualFile.getInputStream()) {
+            return scan(input);
+        }
+    }
+
+    public PomInfo scan(InputStream input) throws XMLStreamException {
+        PomInfo info = new PomInfo();
+        Set<String> requestedFlags = new HashSet<>();
+        plugins.values().forEach(requestedFlags::addAll);
+        XMLStreamReader reader = FACTORY.createXMLStreamReader(input);
+        try {
+            List<String> path = new ArrayList<>();
+            PluginState plugin = null;
+            while (reader.hasNext() && !isComplete(info)) {
+                int event = reader.next();
+                if (event == START_ELEMENT) {
+                    String element = reader.getLocalName();
+                    int depth = path.size();
+                    if (depth == 1 && (NAME.equals(element) || ARTIFACT_ID.equals(element))) {
+                        String text = reader.getElementText().trim();
+                        if (NAME.equals(element)) {
+                            info.name = text;
+                        } else {
+                            info.artifactId = text;
+                        }
+                        continue;
+                    }
+                    if (depth == 2 && PARENT.equals(path.get(1))) {
+                        readParent(reader, element, info.parent);
+                        continue;
+                    }
+                    if (plugin != null && depth == plugin.depth + 1
+                            && (GROUP_ID.equals(element) || ARTIFACT_ID.equals(element))) {
+                        String text = reader.getElementText().trim();
+                        if (GROUP_ID.equals(element)) {
+                            plugin.groupId = text;
+                        } else {
+                            plugin.artifactId = text;
+                        }
+                        continue;
+                    }
+                    if (plugin != null && depth == plugin.depth + 2
+                            && CONFIGURATION.equals(path.get(depth - 1))
+                            && plugin.isRequested(element)) {
+                        plugin.flags.put(element, TRUE.equals(reader.getElementText().trim()));
+                        continue;
+                    }
+                    path.add(element);
+                    if (depth == 1 && PARENT.equals(element)) {
+                        info.parent = new ParentInfo();
+                    }
+                    if (plugin == null && !plugins.isEmpty() && isPluginPath(path)) {
+                        plugin = new PluginState(depth, isManagedPluginPath(path), requestedFlags);
+                    }
+                } else if (event == END_ELEMENT) {
+                    path.remove(path.size() - 1);
+                    if (plugin != null && path.size() == plugin.depth) {
+                        String key = getPluginKey(plugin.groupId, plugin.artifactId);
+                        if (plugins.containsKey(key)) {
+                            PluginInfo pluginInfo = info.plugins.computeIfAbsent(key, k -> new PluginInfo());
+                            if (plugin.managed) {
+                                pluginInfo.managedFlags.putAll(plugin.flags);
+                            } else {
+                                pluginInfo.declared = true;
+                                pluginInfo.flags.putAll(plugin.flags);
+                            }
+                        }
+                        plugin = null;
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+        return info;
+    }
+
+    private static void readParent(XMLStreamReader reader, String element, ParentInfo parent) throws XMLStreamException {
+        String text = reader.getElementText().trim();
+        switch (element) {
+            case GROUP_ID:
+                parent.groupId = text;
+                break;
+            case ARTIFACT_ID:
+                parent.artifactId = text;
+                break;
+            case VERSION:
+                parent.version = text;
+                break;
+            case RELATIVE_PATH:
+                parent.relativePath = text;
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * @return true once nothing read later in the document can change the
+     * result
+     */
+    private boolean isComplete(PomInfo info) {
+        if (name && info.name == null) {
+            return false;
+        }
+        for (Map.Entry<String, Set<String>> query : plugins.entrySet()) {
+            PluginInfo pluginInfo = info.plugins.get(query.getKey());
+            if (pluginInfo == null || !pluginInfo.declared
+                    || !pluginInfo.flags.keySet().containsAll(query.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true for the plugin elements of project/build and
+     * project/profiles/profile/build, in plugins or pluginManagement/plugins
+     */
+    private static boolean isPluginPath(List<String> path) {
+        int size = path.size();
+        if (size < 4 || !PROJECT.equals(path.get(0))
+                || !PLUGINS.equals(path.get(size - 2))
+                || !PLUGIN.equals(path.get(size - 1))) {
+            return false;
+        }
+        int build = 1;
+        if (PROFILES.equals(path.get(1))) {
+            if (size < 6 || !PROFILE.equals(path.get(2))) {
+                return false;
+            }
+            build = 3;
+        }
+        if (!BUILD.equals(path.get(build))) {
+            return false;
+        }
+        if (size == build + 3) {
+            return true;
+        }
+        return size == build + 4 && PLUGIN_MANAGEMENT.equals(path.get(build + 1));
+    }
+
+    private static boolean isManagedPluginPath(List<String> path) {
+        return PLUGIN_MANAGEMENT.equals(path.get(path.size() - 3));
+    }
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    private static final class PluginState {
+
+        private final int depth;
+        private final boolean managed;
+        private String groupId;
+        private String artifactId;
+        private final Map<String, Boolean> flags = new HashMap<>();
+        private final Set<String> requestedFlags;
+
+        private PluginState(int depth, boolean managed, Set<String> requestedFlags) {
+            this.depth = depth;
+            this.managed = managed;
+            this.requestedFlags = requestedFlags;
+        }
+
+        /**
+         * The coordinates may follow the configuration, so the flags of
+         * every requested plugin are collected until the plugin is known.
+         */
+        private boolean isRequested(String flag) {
+            return requestedFlags.contains(flag);
+        }
+    }
+
+    /**
+     * Declaration and configuration of a plugin in a pom.xml.
+     */
+    private static final class PluginInfo {
+
+        private boolean declared;
+        private final Map<String, Boolean> flags = new HashMap<>();
+        private final Map<String, Boolean> managedFlags = new HashMap<>();
+
+        private PluginInfo inherit(PluginInfo parentInfo) {
+            PluginInfo info = new PluginInfo();
+            info.declared = declared || parentInfo.declared;
+            info.flags.putAll(parentInfo.flags);
+            info.flags.putAll(flags);
+            info.managedFlags.putAll(parentInfo.managedFlags);
+            info.managedFlags.putAll(managedFlags);
+            return info;
+        }
+    }
+
+    /**
+     * Parent reference of a pom.xml.
+     */
+    public static final class ParentInfo {
+
+        private String groupId;
+        private String artifactId;
+        private String version;
+        private String relativePath;
+
+        public String getGroupId() {
+            return groupId;
+        }
+
+        public String getArtifactId() {
+            return artifactId;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        /**
+         * @return the relativePath, null if not defined
+         */
+        public String getRelativePath() {
+            return relativePath;
+        }
+    }
+
+    /**
+     * Result of a pom.xml scan.
+     */
+    public static final class PomInfo {
+
+        private String name;
+        private String artifactId;
+        private ParentInfo parent;
+        private final Map<String, PluginInfo> plugins = new HashMap<>();
+
+        /**
+         * @return the project name, or the artifactId if the name is not
+         * defined
+         */
+        public String getProjectName() {
+            return name != null ? name : artifactId;
+        }
+
+        public String getArtifactId() {
+            return artifactId;
+        }
+
+        /**
+         * @return the parent reference or null
+         */
+        public ParentInfo getParent() {
+            return parent;
+        }
+
+        /**
+         * @param groupId the plugin groupId
+         * @param artifactId the plugin artifactId
+         * @return true if the plugin is declared in the build plugins, a
+         * declaration in pluginManagement only contributes configuration
+         */
+        public boolean isPluginDeclared(String groupId, String artifactId) {
+            PluginInfo pluginInfo = plugins.get(getPluginKey(groupId, artifactId));
+            return pluginInfo != null && pluginInfo.declared;
+        }
+
+        /**
+         * @param groupId the plugin groupId
+         * @param artifactId the plugin artifactId
+         * @param flag the configuration element name
+         * @return the flag value of the plugin configuration, falling back to
+         * the pluginManagement configuration
+         */
+        public boolean isFlagEnabled(String groupId, String artifactId, String flag) {
+            PluginInfo pluginInfo = plugins.get(getPluginKey(groupId, artifactId));
+            if (pluginInfo == null) {
+                return false;
+            }
+            Boolean value = pluginInfo.flags.get(flag);
+            if (value == null) {
+                value = pluginInfo.managedFlags.get(flag);
+            }
+            return Boolean.TRUE.equals(value);
+        }
+
+        /**
+         * @param parentInfo the effective result of the parent pom.xml
+         * @return the result with the plugin declarations and configuration
+         * inherited from the parent
+         */
+        PomInfo inherit(PomInfo parentInfo) {
+            PomInfo info = new PomInfo();
+            info.name = name;
+            info.artifactId = artifactId;
+            info.parent = parent;
+            info.plugins.putAll(parentInfo.plugins);
+            plugins.forEach((key, pluginInfo) -> info.plugins.merge(key, pluginInfo,
+                    (inherited, own) -> own.inherit(inherited)));
+            return info;
+        }
+    }
+}
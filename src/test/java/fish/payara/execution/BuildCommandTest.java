@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BuildCommandTest {
+
+    private static final String MICRO_PLUGIN = "fish.payara.maven.plugins:payara-micro-maven-plugin";
+    private static final String SERVER_PLUGIN = "fish.payara.maven.plugins:payara-server-maven-plugin:1.0.0-Alpha3";
+
+    @Test
+    public void microMavenCommands() {
+        assertEquals("mvn package " + MICRO_PLUGIN + ":dev",
+                BuildCommand.maven("package").then(BuildCommand.maven(MICRO_PLUGIN + ":dev").blocking()).toString());
+        assertEquals("mvn " + MICRO_PLUGIN + ":bundle " + MICRO_PLUGIN + ":dev",
+                BuildCommand.maven(MICRO_PLUGIN + ":bundle")
+                        .then(BuildCommand.maven(MICRO_PLUGIN + ":dev").blocking()).toString());
+        assertEquals("mvn resources:resources compiler:compile war:exploded " + MICRO_PLUGIN + ":dev"
+                + " -Dexploded=true -DdeployWar=true",
+                BuildCommand.maven("resources:resources", "compiler:compile", "war:exploded")
+                        .then(BuildCommand.maven(MICRO_PLUGIN + ":dev").blocking())
+                        .withDefinition("-Dexploded=true")
+                        .withDefinition("-DdeployWar=true").toString());
+        assertEquals("mvn resources:resources compiler:compile war:exploded " + MICRO_PLUGIN + ":reload",
+                BuildCommand.maven("resources:resources", "compiler:compile", "war:exploded")
+                        .then(BuildCommand.maven(MICRO_PLUGIN + ":reload")).toString());
+        assertEquals("mvn " + MICRO_PLUGIN + ":stop", BuildCommand.maven(MICRO_PLUGIN + ":stop").toString());
+    }
+
+    @Test
+    public void debugDefinition() {
+        BuildCommand command = BuildCommand.maven("package")
+                .withDefinition("-Ddebug=-agentlib:jdwp=transport=dt_socket,server=n,suspend=n,address=5005");
+        assertEquals("-agentlib:jdwp=transport=dt_socket,server=n,suspend=n,address=5005",
+                command.getProperties().get("debug"));
+        assertEquals("mvn package -Ddebug=-agentlib:jdwp=transport=dt_socket,server=n,suspend=n,address=5005",
+                command.toString());
+    }
+
+    @Test
+    public void serverMavenCommands() {
+        assertEquals("mvn package " + SERVER_PLUGIN + ":dev",
+                BuildCommand.maven("package").then(BuildCommand.maven(SERVER_PLUGIN + ":dev").blocking()).toString());
+        assertEquals("mvn resources:resources compiler:compile war:exploded " + SERVER_PLUGIN + ":dev"
+                + " -Dpayara.exploded=true",
+                BuildCommand.maven("resources:resources", "compiler:compile", "war:exploded")
+                        .then(BuildCommand.maven(SERVER_PLUGIN + ":dev").blocking())
+                        .withDefinition("-Dpayara.exploded=true").toString());
+    }
+
+    @Test
+    public void gradleCommands() {
+        assertEquals("gradle build microStart -DpayaraMicro.deployWar=true",
+                BuildCommand.gradle("build", "microStart").withDefinition("-DpayaraMicro.deployWar=true").toString());
+        assertEquals("gradle microBundle microStart",
+                BuildCommand.gradle("microBundle").then(BuildCommand.gradle("microStart").blocking()).toString());
+        assertEquals("gradle warExplode microStart -DpayaraMicro.deployWar=true -DpayaraMicro.exploded=true",
+                BuildCommand.gradle("warExplode")
+                        .then(BuildCommand.gradle("microStart").blocking())
+                        .withDefinition("-DpayaraMicro.deployWar=true")
+                        .withDefinition("-DpayaraMicro.exploded=true").toString());
+        assertEquals("gradle warExplode microReload",
+                BuildCommand.gradle("warExplode").then(BuildCommand.gradle("microReload")).toString());
+    }
+
+    @Test
+    public void argumentsWithSpacesAreQuoted() {
+        BuildCommand command = BuildCommand.maven("package").withProperty("selectedSource", "/my project/src");
+        assertEquals("mvn package \"-DselectedSource=/my project/src\"", command.toString());
+        assertEquals(List.of("package", "-DselectedSource=/my project/src"), command.getArguments());
+    }
+
+    @Test
+    public void definitionWithoutValue() {
+        assertEquals("true", BuildCommand.maven("package").withDefinition("-Dexploded").getProperties().get("exploded"));
+        assertThrows(IllegalArgumentException.class, () -> BuildCommand.maven("package").withDefinition("exploded"));
+    }
+
+    @Test
+    public void thenMergesOptionsAndProperties() {
+        BuildCommand command = BuildCommand.maven("compile").withOptions("-o").withProperty("a", "1")
+                .then(BuildCommand.maven("package").withOptions("-o").withProperty("b", "2"));
+        assertEquals(List.of("-o"), command.getOptions());
+        assertEquals(List.of("compile", "package"), command.getGoals());
+        assertEquals("mvn -o compile package -Da=1 -Db=2", command.toString());
+    }
+
+    @Test
+    public void thenKeepsTheBlockingStateOfTheNextCommand() {
+        assertTrue(BuildCommand.maven("package").then(BuildCommand.maven("dev").blocking()).isBlocking());
+        assertFalse(BuildCommand.maven("compile").then(BuildCommand.maven("verify")).isBlocking());
+    }
+
+    @Test
+    public void canNotFuse() {
+        BuildCommand maven = BuildCommand.maven("package");
+        assertFalse(maven.canFuse(BuildCommand.gradle("build")));
+        assertFalse(maven.blocking().canFuse(BuildCommand.maven("verify")));
+        assertFalse(maven.withProperty("exploded", "true").canFuse(BuildCommand.maven("verify").withProperty("exploded", "false")));
+        assertTrue(maven.withProperty("exploded", "true").canFuse(BuildCommand.maven("verify").withProperty("exploded", "true")));
+        assertThrows(IllegalArgumentException.class, () -> maven.then(BuildCommand.gradle("build")));
+    }
+
+    @Test
+    public void lifecyclePhasesReachedAreDropped() {
+        assertEquals(List.of("package"),
+                BuildCommand.maven("package").then(BuildCommand.maven("compile")).getGoals());
+        assertEquals(List.of("compile", "package"),
+                BuildCommand.maven("compile").then(BuildCommand.maven("package")).getGoals());
+        assertEquals(List.of("package", MICRO_PLUGIN + ":dev"),
+                BuildCommand.maven("package").then(BuildCommand.maven("package", MICRO_PLUGIN + ":dev")).getGoals());
+    }
+
+    @Test
+    public void goalsBoundToReachedPhasesAreDropped() {
+        assertEquals(List.of("package", "war:exploded"),
+                BuildCommand.maven("package")
+                        .then(BuildCommand.maven("resources:resources", "compiler:compile", "war:exploded"))
+                        .getGoals());
+        // bound to a later phase than the one reached
+        assertEquals(List.of("compile", "war:war"),
+                BuildCommand.maven("compile").then(BuildCommand.maven("compiler:compile", "war:war")).getGoals());
+    }
+
+    @Test
+    public void duplicateGoalsAreDropped() {
+        assertEquals(List.of(MICRO_PLUGIN + ":bundle", MICRO_PLUGIN + ":dev"),
+                BuildCommand.maven(MICRO_PLUGIN + ":bundle")
+                        .then(BuildCommand.maven(MICRO_PLUGIN + ":bundle", MICRO_PLUGIN + ":dev"))
+                        .getGoals());
+        // Gradle tasks are only deduplicated, there is no lifecycle
+        assertEquals(List.of("build", "compileJava"),
+                BuildCommand.gradle("build").then(BuildCommand.gradle("compileJava", "build")).getGoals());
+    }
+
+    @Test
+    public void fuseKeepsTheOrder() {
+        List<BuildCommand> fused = BuildCommand.fuse(List.of(
+                BuildCommand.maven("compile"),
+                BuildCommand.maven("package"),
+                BuildCommand.gradle("build"),
+                BuildCommand.maven(MICRO_PLUGIN + ":dev").blocking(),
+                BuildCommand.maven(MICRO_PLUGIN + ":stop")
+        ));
+        assertEquals(List.of(
+                "mvn compile package",
+                "gradle build",
+                "mvn " + MICRO_PLUGIN + ":dev",
+                "mvn " + MICRO_PLUGIN + ":stop"
+        ), fused.stream().map(BuildCommand::toString).collect(Collectors.toList()));
+    }
+}
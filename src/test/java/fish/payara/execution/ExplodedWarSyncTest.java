@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExplodedWarSyncTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void mirrorDeletesRemovedFiles() throws IOException {
+        Path source = write(directory.resolve("classes/app/Kept.class"), "kept").getParent().getParent();
+        Path target = directory.resolve("exploded");
+        write(target.resolve("app/Removed.class"), "removed");
+        write(target.resolve("WEB-INF/lib/lib.jar"), "lib");
+
+        assertEquals(2, ExplodedWarSync.mirror(List.of(source), target, List.of("WEB-INF/lib")));
+        assertTrue(Files.exists(target.resolve("app/Kept.class")));
+        assertFalse(Files.exists(target.resolve("app/Removed.class")));
+        assertTrue(Files.exists(target.resolve("WEB-INF/lib/lib.jar")));
+    }
+
+    @Test
+    public void mirrorKeepsTargetOfMissingSources() throws IOException {
+        Path target = directory.resolve("exploded");
+        write(target.resolve("app/Built.class"), "built");
+
+        assertEquals(0, ExplodedWarSync.mirror(List.of(directory.resolve("classes")), target, List.of()));
+        assertTrue(Files.exists(target.resolve("app/Built.class")));
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+}
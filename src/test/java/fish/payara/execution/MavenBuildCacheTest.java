@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MavenBuildCacheTest {
+
+    private static final String EXTENSION = "<extension>\n"
+            + "        <groupId>org.apache.maven.extensions</groupId>\n"
+            + "        <artifactId>maven-build-cache-extension</artifactId>\n"
+            + "        <version>" + MavenBuildCache.VERSION + "</version>\n"
+            + "    </extension>\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void findsTheClosestMvnDirectory() throws IOException {
+        Path module = Files.createDirectories(directory.resolve("parent/module"));
+        assertNull(MavenBuildCache.findRootDirectory(module));
+        Files.createDirectory(directory.resolve(".mvn"));
+        assertEquals(directory, MavenBuildCache.findRootDirectory(module));
+        Files.createDirectory(directory.resolve("parent/.mvn"));
+        assertEquals(directory.resolve("parent"), MavenBuildCache.findRootDirectory(module));
+        assertEquals(directory.resolve("parent"), MavenBuildCache.findRootDirectory(directory.resolve("parent")));
+    }
+
+    @Test
+    public void keepsCommentsAndFormatting() throws IOException {
+        String content = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<!-- build extensions -->\n"
+                + "<extensions xmlns=\"http://maven.apache.org/EXTENSIONS/1.1.0\">\n"
+                + "    <!-- keep -->\n"
+                + "    <extension>\n"
+                + "        <groupId>fr.jcgay.maven</groupId>\n"
+                + "        <artifactId>maven-profiler</artifactId>\n"
+                + "        <version>3.2</version>\n"
+                + "    </extension>\n"
+                + "</extensions>\n";
+        String expected = content.replace("</extensions>", "    " + EXTENSION + "</extensions>");
+        assertEquals(expected, MavenBuildCache.insertExtension(content, "extensions"));
+    }
+
+    @Test
+    public void followsTheIndentation() throws IOException {
+        String content = "<extensions>\n"
+                + "  <extension>\n"
+                + "    <groupId>fr.jcgay.maven</groupId>\n"
+                + "  </extension>\n"
+                + "</extensions>";
+        String inserted = MavenBuildCache.insertExtension(content, "extensions");
+        assertEquals(content.replace("</extensions>", "  " + EXTENSION.replace("    ", "  ") + "</extensions>"), inserted);
+    }
+
+    @Test
+    public void keepsTheLineSeparator() throws IOException {
+        String content = "<extensions>\r\n</extensions>\r\n";
+        assertEquals("<extensions>\r\n    " + EXTENSION.replace("\n", "\r\n") + "</extensions>\r\n",
+                MavenBuildCache.insertExtension(content, "extensions"));
+    }
+
+    @Test
+    public void closingTagOnTheSameLine() throws IOException {
+        assertEquals("<extensions>\n    " + EXTENSION + "</extensions>",
+                MavenBuildCache.insertExtension("<extensions></extensions>", "extensions"));
+    }
+
+    @Test
+    public void emptyElement() throws IOException {
+        assertEquals("<!-- none -->\n<extensions xmlns=\"http://maven.apache.org/EXTENSIONS/1.1.0\">\n    "
+                + EXTENSION + "</extensions>\n",
+                MavenBuildCache.insertExtension(
+                        "<!-- none -->\n<extensions xmlns=\"http://maven.apache.org/EXTENSIONS/1.1.0\" />\n",
+                        "extensions"));
+    }
+
+    @Test
+    public void prefixedRoot() throws IOException {
+        String inserted = MavenBuildCache.insertExtension(
+                "<e:extensions xmlns:e=\"http://maven.apache.org/EXTENSIONS/1.1.0\">\n</e:extensions>\n", "e:extensions");
+        assertEquals("<e:extensions xmlns:e=\"http://maven.apache.org/EXTENSIONS/1.1.0\">\n    "
+                + EXTENSION.replace("<", "<e:").replace("<e:/", "</e:") + "</e:extensions>\n", inserted);
+    }
+
+    @Test
+    public void missingRootEnd() {
+        assertThrows(IOException.class, () -> MavenBuildCache.insertExtension("<extensions>", "extensions"));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.execution;
+
+import fish.payara.execution.ScheduledCommand.Operation;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PayaraCommandSchedulerTest {
+
+    private static final String MICRO_PLUGIN = "fish.payara.maven.plugins:payara-micro-maven-plugin";
+    private static final String NAME = "app";
+    private static final String INSTANCE = "app instance";
+
+    @Test
+    public void fusesStopAndStart() {
+        ScheduledCommand stop = build(Operation.STOP, NAME, BuildCommand.maven(MICRO_PLUGIN + ":stop"));
+        ScheduledCommand start = build(Operation.START, INSTANCE,
+                BuildCommand.maven("package").then(BuildCommand.maven(MICRO_PLUGIN + ":dev").blocking()));
+        Deque<ScheduledCommand> queue = new ArrayDeque<>(List.of(stop, start));
+
+        List<ScheduledCommand> batch = PayaraCommandScheduler.pollBatch(queue);
+
+        assertEquals(List.of(stop, start), batch);
+        assertEquals(0, queue.size());
+        assertEquals("mvn " + MICRO_PLUGIN + ":stop package " + MICRO_PLUGIN + ":dev",
+                PayaraCommandScheduler.fuse(batch).toString());
+        assertTrue(PayaraCommandScheduler.fuse(batch).isBlocking());
+    }
+
+    @Test
+    public void fusesReloadAndBundle() {
+        ScheduledCommand reload = build(Operation.RELOAD, NAME,
+                BuildCommand.maven("resources:resources", "compiler:compile", "war:exploded")
+                        .then(BuildCommand.maven(MICRO_PLUGIN + ":reload")));
+        ScheduledCommand bundle = build(Operation.BUNDLE, NAME,
+                BuildCommand.maven("package", MICRO_PLUGIN + ":bundle"));
+        Deque<ScheduledCommand> queue = new ArrayDeque<>(List.of(reload, bundle));
+
+        List<ScheduledCommand> batch = PayaraCommandScheduler.pollBatch(queue);
+
+        assertEquals(List.of(reload, bundle), batch);
+        assertEquals("mvn resources:resources compiler:compile war:exploded " + MICRO_PLUGIN + ":reload"
+                + " package " + MICRO_PLUGIN + ":bundle", PayaraCommandScheduler.fuse(batch).toString());
+    }
+
+    @Test
+    public void nothingFusedAfterBlockingCommand() {
+        ScheduledCommand start = build(Operation.START, INSTANCE,
+                BuildCommand.maven("package").then(BuildCommand.maven(MICRO_PLUGIN + ":dev").blocking()));
+        ScheduledCommand bundle = build(Operation.BUNDLE, NAME, BuildCommand.maven("package", MICRO_PLUGIN + ":bundle"));
+        Deque<ScheduledCommand> queue = new ArrayDeque<>(List.of(start, bundle));
+
+        assertEquals(List.of(start), PayaraCommandScheduler.pollBatch(queue));
+        assertSame(bundle, queue.peek());
+    }
+
+    @Test
+    public void operationsNotRunByTheirCommandAreNotFused() {
+        ScheduledCommand hotSwap = opaque(Operation.RELOAD, NAME, BuildCommand.maven(MICRO_PLUGIN + ":reload"));
+        ScheduledCommand bundle = build(Operation.BUNDLE, NAME, BuildCommand.maven("package", MICRO_PLUGIN + ":bundle"));
+        ScheduledCommand stop = opaque(Operation.STOP, NAME, BuildCommand.maven(MICRO_PLUGIN + ":stop"));
+        Deque<ScheduledCommand> queue = new ArrayDeque<>(List.of(hotSwap, bundle, stop));
+
+        assertEquals(List.of(hotSwap), PayaraCommandScheduler.pollBatch(queue));
+        assertEquals(List.of(bundle), PayaraCommandScheduler.pollBatch(queue));
+        assertEquals(List.of(stop), PayaraCommandScheduler.pollBatch(queue));
+    }
+
+    @Test
+    public void differentToolsOrPropertiesAreNotFused() {
+        ScheduledCommand maven = build(Operation.BUNDLE, NAME, BuildCommand.maven("package").withDefinition("-Dexploded=true"));
+        ScheduledCommand gradle = build(Operation.BUNDLE, NAME, BuildCommand.gradle("microBundle"));
+        ScheduledCommand conflicting = build(Operation.BUNDLE, NAME, BuildCommand.maven("package").withDefinition("-Dexploded=false"));
+        ScheduledCommand compatible = build(Operation.BUNDLE, NAME, BuildCommand.maven("verify").withDefinition("-Dexploded=false"));
+        Deque<ScheduledCommand> queue = new ArrayDeque<>(List.of(maven, gradle, conflicting, compatible));
+
+        assertEquals(List.of(maven), PayaraCommandScheduler.pollBatch(queue));
+        assertEquals(List.of(gradle), PayaraCommandScheduler.pollBatch(queue));
+        List<ScheduledCommand> batch = PayaraCommandScheduler.pollBatch(queue);
+        assertEquals(List.of(conflicting, compatible), batch);
+        assertEquals("mvn package verify -Dexploded=false", PayaraCommandScheduler.fuse(batch).toString());
+    }
+
+    @Test
+    public void commandAfterBuildRunsApart() {
+        ScheduledCommand stop = build(Operation.STOP, NAME, BuildCommand.maven(MICRO_PLUGIN + ":stop"));
+        ScheduledCommand start = new ScheduledCommand(Operation.START, INSTANCE,
+                BuildCommand.maven("resources:resources", "compiler:compile"), () -> {
+                }, BuildCommand.maven(MICRO_PLUGIN + ":dev").blocking(), fused -> null, true, null);
+        ScheduledCommand bundle = build(Operation.BUNDLE, NAME, BuildCommand.maven("package", MICRO_PLUGIN + ":bundle"));
+        Deque<ScheduledCommand> queue = new ArrayDeque<>(List.of(stop, start, bundle));
+
+        List<ScheduledCommand> batch = PayaraCommandScheduler.pollBatch(queue);
+
+        assertEquals(List.of(stop, start), batch);
+        assertSame(bundle, queue.peek());
+        assertEquals("mvn " + MICRO_PLUGIN + ":stop resources:resources compiler:compile",
+                PayaraCommandScheduler.fuse(batch).toString());
+    }
+
+    private static ScheduledCommand build(Operation operation, String name, BuildCommand command) {
+        return new ScheduledCommand(operation, name, command, fused -> null, true, null);
+    }
+
+    private static ScheduledCommand opaque(Operation operation, String name, BuildCommand command) {
+        return new ScheduledCommand(operation, name, command, ignored -> null, false, null);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.micro;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ExplodedSyncTest {
+
+    @Test
+    public void gradleResourceOutputOfGradleBuild() {
+        assertEquals(Path.of("/app/build/resources/main"),
+                ExplodedSync.getGradleResourceOutput(Path.of("/app/build/classes/java/main")));
+        assertEquals(Path.of("/app/build/resources/main"),
+                ExplodedSync.getGradleResourceOutput(Path.of("/app/build/classes/kotlin/main")));
+    }
+
+    @Test
+    public void gradleResourceOutputOfIdeBuild() {
+        assertEquals(Path.of("/app/out/production/resources"),
+                ExplodedSync.getGradleResourceOutput(Path.of("/app/out/production/classes")));
+    }
+
+    @Test
+    public void unknownLayout() {
+        assertNull(ExplodedSync.getGradleResourceOutput(Path.of("/app/target/classes/main")));
+        assertNull(ExplodedSync.getGradleResourceOutput(Path.of("/")));
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.micro.gradle;
+
+import fish.payara.micro.gradle.GradleBuildParser.GradleBuild;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GradleBuildParserTest {
+
+    @Test
+    public void groovyPluginDeclaration() {
+        GradleBuild build = GradleBuildParser.parseBuild(
+                "plugins {\n"
+                + "    id 'war'\n"
+                + "    id 'fish.payara.micro-gradle-plugin' version '1.0.5'\n"
+                + "}\n");
+        assertTrue(build.isPluginDeclared());
+    }
+
+    @Test
+    public void kotlinPluginDeclaration() {
+        GradleBuild build = GradleBuildParser.parseBuild(
+                "plugins {\n"
+                + "    id(\"fish.payara.micro-gradle-plugin\") version \"1.0.5\"\n"
+                + "}\n");
+        assertTrue(build.isPluginDeclared());
+    }
+
+    @Test
+    public void buildscriptClasspathDeclaration() {
+        GradleBuild build = GradleBuildParser.parseBuild(
+                "buildscript {\n"
+                + "    dependencies {\n"
+                + "        classpath \"fish.payara.maven.plugins:payara-micro-gradle-plugin:1.0.5\"\n"
+                + "    }\n"
+                + "}\n"
+                + "apply plugin: 'fish.payara.micro-gradle-plugin'\n");
+        assertTrue(build.isPluginDeclared());
+    }
+
+    @Test
+    public void pluginInCommentsIsIgnored() {
+        GradleBuild build = GradleBuildParser.parseBuild(
+                "plugins {\n"
+                + "    id 'war'\n"
+                + "    // id 'fish.payara.micro-gradle-plugin'\n"
+                + "    /* id 'fish.payara.micro-gradle-plugin'\n"
+                + "       payaraMicro { exploded = true } */\n"
+                + "}\n");
+        assertFalse(build.isPluginDeclared());
+        assertTrue(build.getExtension().isEmpty());
+    }
+
+    @Test
+    public void assignmentForms() {
+        Map<String, String> extension = GradleBuildParser.parseBuild(
+                "payaraMicro {\n"
+                + "    useUberJar = true\n"
+                + "    exploded true\n"
+                + "    deployWar(false)\n"
+                + "    payaraVersion.set(\"6.2024.1\")\n"
+                + "    httpPort = 8080\n"
+                + "}\n").getExtension();
+        assertEquals("true", extension.get("useUberJar"));
+        assertEquals("true", extension.get("exploded"));
+        assertEquals("false", extension.get("deployWar"));
+        assertEquals("6.2024.1", extension.get("payaraVersion"));
+        assertEquals("8080", extension.get("httpPort"));
+    }
+
+    @Test
+    public void statementsOnOneLine() {
+        Map<String, String> extension = GradleBuildParser.parseBuild(
+                "payaraMicro { useUberJar = true; exploded = true }\n").getExtension();
+        assertEquals("true", extension.get("useUberJar"));
+        assertEquals("true", extension.get("exploded"));
+    }
+
+    @Test
+    public void extensionPropertyOutsideBlock() {
+        Map<String, String> extension = GradleBuildParser.parseBuild(
+                "payaraMicro.exploded = true\n"
+                + "payaraMicro.useUberJar.set(true)\n").getExtension();
+        assertEquals("true", extension.get("exploded"));
+        assertEquals("true", extension.get("useUberJar"));
+    }
+
+    @Test
+    public void kotlinConfigureBlock() {
+        Map<String, String> extension = GradleBuildParser.parseBuild(
+                "configure<PayaraMicroExtension> {\n"
+                + "    exploded.set(true)\n"
+                + "    useUberJar = true\n"
+                + "}\n").getExtension();
+        assertEquals("true", extension.get("exploded"));
+        assertEquals("true", extension.get("useUberJar"));
+    }
+
+    @Test
+    public void kotlinConfigureBlockWithQualifiedType() {
+        Map<String, String> extension = GradleBuildParser.parseBuild(
+                "configure<fish.payara.micro.gradle.PayaraMicroExtension> {\n"
+                + "    exploded = true\n"
+                + "}\n"
+                + "configure<JavaPluginExtension> {\n"
+                + "    useUberJar = true\n"
+                + "}\n").getExtension();
+        assertEquals("true", extension.get("exploded"));
+        assertNull(extension.get("useUberJar"));
+    }
+
+    @Test
+    public void nestedBlocksAreSkipped() {
+        Map<String, String> extension = GradleBuildParser.parseBuild(
+                "payaraMicro {\n"
+                + "    commandLineOptions {\n"
+                + "        exploded = true\n"
+                + "    }\n"
+                + "    useUberJar = true\n"
+                + "}\n").getExtension();
+        assertNull(extension.get("exploded"));
+        assertEquals("true", extension.get("useUberJar"));
+    }
+
+    @Test
+    public void bracesInStringsAreIgnored() {
+        Map<String, String> extension = GradleBuildParser.parseBuild(
+                "payaraMicro {\n"
+                + "    contextRoot = \"/app}\"\n"
+                + "    javaCommandLineOptions = '''{\n"
+                + "    }'''\n"
+                + "    exploded = true\n"
+                + "}\n"
+                + "exploded = false\n").getExtension();
+        assertEquals("/app}", extension.get("contextRoot"));
+        assertEquals("true", extension.get("exploded"));
+    }
+
+    @Test
+    public void templatesAreKept() {
+        Map<String, String> extension = GradleBuildParser.parseBuild(
+                "payaraMicro {\n"
+                + "    contextRoot = \"/${project.name + \"}\"}\"\n"
+                + "    exploded = true\n"
+                + "}\n").getExtension();
+        assertEquals("/${project.name + \"}\"}", extension.get("contextRoot"));
+        assertEquals("true", extension.get("exploded"));
+    }
+
+    @Test
+    public void escapedQuotes() {
+        Map<String, String> extension = GradleBuildParser.parseBuild(
+                "payaraMicro {\n"
+                + "    contextRoot = 'it\\'s'\n"
+                + "    exploded = true\n"
+                + "}\n").getExtension();
+        assertEquals("it's", extension.get("contextRoot"));
+        assertEquals("true", extension.get("exploded"));
+    }
+
+    @Test
+    public void rootProjectName() {
+        assertEquals("demo", GradleBuildParser.parseRootProjectName(
+                "// rootProject.name = 'commented'\n"
+                + "rootProject.name = 'demo'\n"
+                + "include 'app'\n"));
+        assertEquals("demo", GradleBuildParser.parseRootProjectName(
+                "rootProject.name = \"demo\"\n"));
+        assertNull(GradleBuildParser.parseRootProjectName(
+                "/* rootProject.name = 'commented' */\n"
+                + "include 'app'\n"));
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2026 Payara Foundation and/or its affiliates and others.
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package fish.payara.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PomScannerTest {
+
+    private static final String GROUP_ID = "fish.payara.maven.plugins";
+    private static final String ARTIFACT_ID = "payara-micro-maven-plugin";
+    private static final String USE_UBER_JAR = "useUberJar";
+    private static final String EXPLODED = "exploded";
+
+    private static final String MICRO_PLUGIN = "<plugin>"
+            + "<groupId>" + GROUP_ID + "</groupId>"
+            + "<artifactId>" + ARTIFACT_ID + "</artifactId>"
+            + "<configuration><useUberJar>true</useUberJar><exploded>false</exploded></configuration>"
+            + "</plugin>";
+
+    @Test
+    public void readsNameOverArtifactId() throws Exception {
+        PomScanner.PomInfo info = scan(PomScanner.forName(), pom(
+                "<artifactId>app</artifactId>"
+                + "<dependencies><dependency><artifactId>lib</artifactId><name>lib</name></dependency></dependencies>"
+                + "<name>Application</name>"));
+        assertEquals("Application", info.getProjectName());
+        assertEquals("app", info.getArtifactId());
+    }
+
+    @Test
+    public void fallsBackToArtifactId() throws Exception {
+        PomScanner.PomInfo info = scan(PomScanner.forName(), pom(
+                "<artifactId>app</artifactId>"
+                + "<dependencies><dependency><artifactId>lib</artifactId></dependency></dependencies>"));
+        assertEquals("app", info.getProjectName());
+    }
+
+    @Test
+    public void readsPluginDeclarationAndFlags() throws Exception {
+        PomScanner.PomInfo info = scan(microScanner(), pom(
+                "<build><plugins>" + MICRO_PLUGIN + "</plugins></build>"));
+        assertTrue(info.isPluginDeclared(GROUP_ID, ARTIFACT_ID));
+        assertTrue(info.isFlagEnabled(GROUP_ID, ARTIFACT_ID, USE_UBER_JAR));
+        assertFalse(info.isFlagEnabled(GROUP_ID, ARTIFACT_ID, EXPLODED));
+    }
+
+    @Test
+    public void readsCoordinatesAfterConfiguration() throws Exception {
+        PomScanner.PomInfo info = scan(microScanner(), pom(
+                "<build><plugins><plugin>"
+                + "<configuration><exploded>true</exploded></configuration>"
+                + "<artifactId>" + ARTIFACT_ID + "</artifactId>"
+                + "<groupId>" + GROUP_ID + "</groupId>"
+                + "</plugin></plugins></build>"));
+        assertTrue(info.isPluginDeclared(GROUP_ID, ARTIFACT_ID));
+        assertTrue(info.isFlagEnabled(GROUP_ID, ARTIFACT_ID, EXPLODED));
+    }
+
+    @Test
+    public void ignoresOtherPlugins() throws Exception {
+        PomScanner.PomInfo info = scan(microScanner(), pom(
+                "<build><plugins><plugin>"
+                + "<groupId>org.apache.maven.plugins</groupId>"
+                + "<artifactId>maven-war-plugin</artifactId>"
+                + "<configuration><exploded>true</exploded></configuration>"
+                + "</plugin></plugins></build>"));
+        assertFalse(info.isPluginDeclared(GROUP_ID, ARTIFACT_ID));
+        assertFalse(info.isFlagEnabled(GROUP_ID, ARTIFACT_ID, EXPLODED));
+    }
+
+    @Test
+    public void readsPluginOfProfile() throws Exception {
+        PomScanner.PomInfo info = scan(microScanner(), pom(
+                "<profiles><profile><id>micro</id><build><plugins>" + MICRO_PLUGIN
+                + "</plugins></build></profile></profiles>"));
+        assertTrue(info.isPluginDeclared(GROUP_ID, ARTIFACT_ID));
+        assertTrue(info.isFlagEnabled(GROUP_ID, ARTIFACT_ID, USE_UBER_JAR));
+    }
+
+    @Test
+    public void pluginManagementContributesConfigurationOnly() throws Exception {
+        PomScanner.PomInfo info = scan(microScanner(), pom(
+                "<build><pluginManagement><plugins><plugin>"
+                + "<groupId>" + GROUP_ID + "</groupId>"
+                + "<artifactId>" + ARTIFACT_ID + "</artifactId>"
+                + "<configuration><exploded>true</exploded></configuration>"
+                + "</plugin></plugins></pluginManagement></build>"));
+        assertFalse(info.isPluginDeclared(GROUP_ID, ARTIFACT_ID));
+        assertTrue(info.isFlagEnabled(GROUP_ID, ARTIFACT_ID, EXPLODED));
+    }
+
+    @Test
+    public void pluginConfigurationOverridesPluginManagement() throws Exception {
+        PomScanner.PomInfo info = scan(microScanner(), pom(
+                "<build><pluginManagement><plugins><plugin>"
+                + "<groupId>" + GROUP_ID + "</groupId>"
+                + "<artifactId>" + ARTIFACT_ID + "</artifactId>"
+                + "<configuration><exploded>true</exploded><useUberJar>true</useUberJar></configuration>"
+                + "</plugin></plugins></pluginManagement>"
+                + "<plugins>" + MICRO_PLUGIN + "</plugins></build>"));
+        assertTrue(info.isPluginDeclared(GROUP_ID, ARTIFACT_ID));
+        assertFalse(info.isFlagEnabled(GROUP_ID, ARTIFACT_ID, EXPLODED));
+        assertTrue(info.isFlagEnabled(GROUP_ID, ARTIFACT_ID, USE_UBER_JAR));
+    }
+
+    @Test
+    public void readsParent() throws Exception {
+        PomScanner.PomInfo info = scan(microScanner(), pom(
+                "<parent><groupId>fish.payara</groupId><artifactId>parent</artifactId>"
+                + "<version>1.0</version><relativePath>../parent</relativePath></parent>"));
+        PomScanner.ParentInfo parent = info.getParent();
+        assertNotNull(parent);
+        assertEquals("fish.payara", parent.getGroupId());
+        assertEquals("parent", parent.getArtifactId());
+        assertEquals("1.0", parent.getVersion());
+        assertEquals("../parent", parent.getRelativePath());
+    }
+
+    @Test
+    public void parentWithoutRelativePath() throws Exception {
+        PomScanner.PomInfo info = scan(microScanner(), pom(
+                "<parent><groupId>fish.payara</groupId><artifactId>parent</artifactId>"
+                + "<version>1.0</version></parent>"));
+        assertNull(info.getParent().getRelativePath());
+        assertNull(scan(microScanner(), pom("")).getParent());
+    }
+
+    @Test
+    public void inheritsPluginOfParent() throws Exception {
+        PomScanner.PomInfo parent = scan(microScanner(), pom(
+                "<build><plugins>" + MICRO_PLUGIN + "</plugins></build>"));
+        PomScanner.PomInfo child = scan(microScanner(), pom(
+                "<build><pluginManagement><plugins><plugin>"
+                + "<groupId>" + GROUP_ID + "</groupId>"
+                + "<artifactId>" + ARTIFACT_ID + "</artifactId>"
+                + "<configuration><exploded>true</exploded></configuration>"
+                + "</plugin></plugins></pluginManagement></build>"));
+        PomScanner.PomInfo info = child.inherit(parent);
+        assertTrue(info.isPluginDeclared(GROUP_ID, ARTIFACT_ID));
+        assertTrue(info.isFlagEnabled(GROUP_ID, ARTIFACT_ID, USE_UBER_JAR));
+    }
+
+    @Test
+    public void stopsOnceThePluginIsRead() throws Exception {
+        String content = pom("<build><plugins>" + MICRO_PLUGIN + "</plugins></build>");
+        // nothing after the plugin is read, so the broken tail is never seen
+        String truncated = content.substring(0, content.indexOf("</plugins>")) + "<broken";
+        PomScanner.PomInfo info = scan(microScanner(), truncated);
+        assertTrue(info.isPluginDeclared(GROUP_ID, ARTIFACT_ID));
+        assertTrue(info.isFlagEnabled(GROUP_ID, ARTIFACT_ID, USE_UBER_JAR));
+    }
+
+    @Test
+    public void readsToTheEndWhenThePluginIsMissing() {
+        String truncated = pom("<build><plugins></plugins></build>").replace("</project>", "<broken");
+        assertThrows(XMLStreamException.class, () -> scan(microScanner(), truncated));
+    }
+
+    @Test
+    public void readsToTheEndWhenAFlagIsMissing() {
+        String truncated = pom("<build><plugins><plugin>"
+                + "<groupId>" + GROUP_ID + "</groupId>"
+                + "<artifactId>" + ARTIFACT_ID + "</artifactId>"
+                + "</plugin></plugins></build>").replace("</project>", "<broken");
+        assertThrows(XMLStreamException.class, () -> scan(microScanner(), truncated));
+    }
+
+    @Test
+    public void queryKeyIgnoresOrder() {
+        assertEquals(
+                PomScanner.create().withPlugin("a", "b", "x", "y").withPlugin("c", "d").getQueryKey(),
+                PomScanner.create().withPlugin("c", "d").withPlugin("a", "b", "y", "x").getQueryKey()
+        );
+        assertFalse(microScanner().getQueryKey().equals(microScanner().withName().getQueryKey()));
+    }
+
+    /**
+     * The scanner must agree with the DOM parsing it replaced on a pom.xml
+     * declaring the plugin in a profile and with a large dependency section
+     * after the build.
+     */
+    @Test
+    public void agreesWithDomParsing() throws Exception {
+        StringBuilder dependencies = new StringBuilder("<dependencies>");
+        for (int i = 0; i < 500; i++) {
+            dependencies.append("<dependency><groupId>org.example</groupId><artifactId>lib-")
+                    .append(i).append("</artifactId><version>1.0</version></dependency>");
+        }
+        dependencies.append("</dependencies>");
+        String[] bodies = {
+            "<artifactId>app</artifactId><build><plugins>" + MICRO_PLUGIN + "</plugins></build>" + dependencies,
+            "<artifactId>app</artifactId><profiles><profile><build><plugins>" + MICRO_PLUGIN
+            + "</plugins></build></profile></profiles>" + dependencies,
+            "<artifactId>app</artifactId><build><pluginManagement><plugins>" + MICRO_PLUGIN
+            + "</plugins></pluginManagement></build>" + dependencies,
+            "<artifactId>app</artifactId>" + dependencies
+        };
+        for (String body : bodies) {
+            byte[] content = pom(body).getBytes(StandardCharsets.UTF_8);
+            try (InputStream input = new ByteArrayInputStream(content)) {
+                assertEquals(isDeclaredByDom(content),
+                        microScanner().scan(input).isPluginDeclared(GROUP_ID, ARTIFACT_ID), body);
+            }
+        }
+    }
+
+    /**
+     * The detection as done before the scanner: parse the whole document and
+     * look for the plugin in the plugins of the build nodes.
+     */
+    private static boolean isDeclaredByDom(byte[] content) throws Exception {
+        DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        Document document = builder.parse(new ByteArrayInputStream(content));
+        document.getDocumentElement().normalize();
+        List<Node> buildNodes = new ArrayList<>();
+        for (Node child : getChildren(document.getDocumentElement(), "build")) {
+            buildNodes.add(child);
+        }
+        for (Node profiles : getChildren(document.getDocumentElement(), "profiles")) {
+            for (Node profile : getChildren(profiles, "profile")) {
+                buildNodes.addAll(getChildren(profile, "build"));
+            }
+        }
+        for (Node buildNode : buildNodes) {
+            for (Node plugins : getChildren(buildNode, "plugins")) {
+                for (Node plugin : getChildren(plugins, "plugin")) {
+                    if (hasChild(plugin, "groupId", GROUP_ID) && hasChild(plugin, "artifactId", ARTIFACT_ID)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static List<Node> getChildren(Node node, String name) {
+        List<Node> children = new ArrayList<>();
+        NodeList childNodes = node.getChildNodes();
+        for (int i = 0; i < childNodes.getLength(); i++) {
+            if (childNodes.item(i).getNodeName().equals(name)) {
+                children.add(childNodes.item(i));
+            }
+        }
+        return children;
+    }
+
+    private static boolean hasChild(Node node, String name, String text) {
+        return getChildren(node, name).stream().anyMatch(child -> child.getTextContent().equals(text));
+    }
+
+    private static PomScanner microScanner() {
+        return PomScanner.create().withPlugin(GROUP_ID, ARTIFACT_ID, USE_UBER_JAR, EXPLODED);
+    }
+
+    private static PomScanner.PomInfo scan(PomScanner scanner, String content) throws XMLStreamException {
+        return scanner.scan(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String pom(String body) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">"
+                + "<modelVersion>4.0.0</modelVersion>"
+                + body
+                + "</project>";
+    }
+}